@@ -0,0 +1,86 @@
+package de.MCmoderSD.cloudflare.benchmark;
+
+import de.MCmoderSD.cloudflare.core.CloudflareClient;
+import de.MCmoderSD.cloudflare.core.RateLimiter;
+import de.MCmoderSD.cloudflare.enums.VerificationPolicy;
+import de.MCmoderSD.cloudflare.objects.BulkResult;
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+import de.MCmoderSD.cloudflare.objects.ModifiedRecord;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BulkApplyBenchmark.UPDATES)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkApplyBenchmark {
+
+    // Updates per bulkApply call, throughput is reported per update
+    static final int UPDATES = 200;
+
+    // Lanes in flight
+    @Param({"1", "8", "32"})
+    public int concurrency;
+
+    // Simulated round trip of the local API
+    @Param({"0", "20"})
+    public int latencyMillis;
+
+    // Attributes
+    private FakeCloudflareServer server;
+    private CloudflareClient client;
+    private List<DnsRecord> records;
+    private List<ModifiedRecord> updates;
+    private int round;
+
+    @Setup
+    public void setup() throws IOException {
+
+        // Start local API with a synthetic zone
+        server = new FakeCloudflareServer();
+        var zoneId = server.addZone(SyntheticZone.ZONE_NAME);
+        server.populate(zoneId, UPDATES);
+
+        // Point client at it, without the production rate limit or verification reads
+        client = CloudflareClient.builder(zoneId, "benchmark-token")
+                .baseUri(server.getBaseUri())
+                .requestTimeout(Duration.ofMinutes(1))
+                .build();
+        client.setRateLimiter(new RateLimiter(Integer.MAX_VALUE, Duration.ofSeconds(1)));
+        client.setVerificationPolicy(VerificationPolicy.NONE);
+        client.setBulkConcurrency(concurrency);
+        records = new ArrayList<>(client.getRecords());
+        server.setLatency(Duration.ofMillis(latencyMillis));
+    }
+
+    // Change the TTL of every record, alternating so no update is skipped as unchanged
+    @Setup(Level.Invocation)
+    public void prepare() {
+        var ttl = ++round % 2 == 0 ? 300 : 600;
+        updates = new ArrayList<>(records.size());
+        for (var record : records) {
+            var modifiedRecord = new ModifiedRecord(record);
+            modifiedRecord.modifyTtl(ttl);
+            updates.add(modifiedRecord);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    // One PATCH per record with bounded concurrency
+    @Benchmark
+    public BulkResult bulkApply() {
+        return client.bulkApply(List.of(), updates, List.of());
+    }
+}
@@ -0,0 +1,582 @@
+package de.MCmoderSD.cloudflare.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import de.MCmoderSD.cloudflare.core.ZoneFileParser;
+import de.MCmoderSD.cloudflare.enums.RecordType;
+import de.MCmoderSD.cloudflare.objects.RecordData;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@SuppressWarnings({"unused", "UnusedReturnValue"})
+public class FakeCloudflareServer implements AutoCloseable {
+
+    // Constants
+    private static final String CONTEXT = "/client/v4/";
+
+    // Headers and body are written separately, without this Nagle and delayed ACKs add ~40 ms per response
+    static {
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    // Attributes
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper mapper;
+    private final Map<String, Zone> zones;
+
+    // Statistics
+    private final AtomicLong requests;
+    private final AtomicLong bytesSent;
+    private final AtomicLong bytesReceived;
+
+    // Behaviour
+    private volatile Duration latency;
+    private volatile long rateLimitNanos;
+    private volatile long nextPermit;
+    private final AtomicInteger failures;
+    private volatile int failureStatus;
+
+    // Constructor
+    public FakeCloudflareServer() throws IOException {
+
+        // Initialize attributes
+        mapper = new ObjectMapper();
+        zones = new ConcurrentHashMap<>();
+        requests = new AtomicLong();
+        bytesSent = new AtomicLong();
+        bytesReceived = new AtomicLong();
+        latency = Duration.ZERO;
+        failures = new AtomicInteger();
+
+        // Start server on a free loopback port
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        server.setExecutor(executor);
+        server.createContext(CONTEXT, this::handle);
+        server.start();
+    }
+
+    // Base URI to pass to the client builders
+    public URI getBaseUri() {
+        return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + CONTEXT);
+    }
+
+    // Add empty zone and return its ID
+    public String addZone(String name) {
+        var zone = new Zone(randomId(), name);
+        zones.put(zone.id, zone);
+        return zone.id;
+    }
+
+    // Fill zone with synthetic records
+    public FakeCloudflareServer populate(String zoneId, int count) {
+        var zone = zone(zoneId);
+        synchronized (zone) {
+            for (var i = 0; i < count; i++) {
+                var json = SyntheticZone.record(i).replace(SyntheticZone.ZONE_NAME, zone.name).replace(SyntheticZone.ZONE_ID, zone.id);
+                zone.put(mapper.readTree(json));
+            }
+        }
+        return this;
+    }
+
+    // Store record JSON as is, e.g. shapes the client does not expect
+    public FakeCloudflareServer addRecord(String zoneId, String json) {
+        var zone = zone(zoneId);
+        synchronized (zone) {
+            zone.put(mapper.readTree(json));
+        }
+        return this;
+    }
+
+    // Get current records of a zone
+    public List<JsonNode> getRecords(String zoneId) {
+        var zone = zone(zoneId);
+        synchronized (zone) {
+            var records = new ArrayList<JsonNode>(zone.records.size());
+            for (var entry : zone.records.values()) records.add(mapper.readTree(entry.json));
+            return records;
+        }
+    }
+
+    // Delay every response
+    public FakeCloudflareServer setLatency(Duration latency) {
+        this.latency = latency == null ? Duration.ZERO : latency;
+        return this;
+    }
+
+    // Answer with 429 and Retry-After when more than the given requests per second arrive, 0 disables
+    public FakeCloudflareServer setRateLimit(int requestsPerSecond) {
+        rateLimitNanos = requestsPerSecond <= 0 ? 0 : 1_000_000_000L / requestsPerSecond;
+        nextPermit = System.nanoTime();
+        return this;
+    }
+
+    // Answer the next requests with the given status, e.g. 502 to exercise retries
+    public FakeCloudflareServer failNext(int statusCode, int count) {
+        failureStatus = statusCode;
+        failures.set(count);
+        return this;
+    }
+
+    // Statistics
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public long getBytesSent() {
+        return bytesSent.get();
+    }
+
+    public long getBytesReceived() {
+        return bytesReceived.get();
+    }
+
+    public void resetStatistics() {
+        requests.set(0);
+        bytesSent.set(0);
+        bytesReceived.set(0);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    // Handle request
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+
+            // Read request
+            requests.incrementAndGet();
+            var body = exchange.getRequestBody().readAllBytes();
+            bytesReceived.addAndGet(body.length);
+
+            // Simulate network and rate limit
+            if (!latency.isZero()) Thread.sleep(latency);
+            if (rateLimited()) {
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                send(exchange, 429, error(971, "Please wait and consider throttling your request speed"));
+                return;
+            }
+
+            // Inject failures
+            if (failures.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                send(exchange, failureStatus, error(failureStatus == 429 ? 971 : 10000, "Injected failure"));
+                return;
+            }
+
+            // Check authorization
+            var authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            if (authorization == null || !authorization.startsWith("Bearer ")) {
+                send(exchange, 401, error(10000, "Authentication error"));
+                return;
+            }
+
+            // Route request
+            var path = exchange.getRequestURI().getPath().substring(CONTEXT.length()).split("/");
+            var query = query(exchange.getRequestURI().getRawQuery());
+            var method = exchange.getRequestMethod();
+            var response = route(method, path, query, body);
+            send(exchange, response.status, response.body);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            send(exchange, 400, error(1004, String.valueOf(e.getMessage())));
+        }
+    }
+
+    // Route request to the matching endpoint
+    private Response route(String method, String[] path, Map<String, String> query, byte[] body) {
+
+        // Zones
+        if (path.length == 1 && path[0].equals("zones") && method.equals("GET")) return listZones(query);
+        if (path.length < 3 || !path[0].equals("zones") || !path[2].equals("dns_records")) return new Response(404, error(7000, "No route for that URI"));
+        var zone = zones.get(path[1]);
+        if (zone == null) return new Response(404, error(7003, "Could not route to /zones/" + path[1]));
+
+        // Records
+        synchronized (zone) {
+            if (path.length == 3 && method.equals("GET")) return listRecords(zone, query);
+            if (path.length == 3 && method.equals("POST")) return success(zone.create(mapper.readTree(body)));
+            if (path.length == 4 && path[3].equals("batch") && method.equals("POST")) return batch(zone, mapper.readTree(body));
+            if (path.length == 4 && path[3].equals("export") && method.equals("GET")) return new Response(200, export(zone));
+            if (path.length == 4 && path[3].equals("import") && method.equals("POST")) return importZone(zone, body);
+            if (path.length == 4) {
+                var entry = zone.records.get(path[3]);
+                if (entry == null) return new Response(404, error(81044, "Record does not exist."));
+                return switch (method) {
+                    case "GET" -> success(entry.json);
+                    case "PUT" -> success(zone.update(path[3], mapper.readTree(body), false));
+                    case "PATCH" -> success(zone.update(path[3], mapper.readTree(body), true));
+                    case "DELETE" -> {
+                        zone.records.remove(path[3]);
+                        yield success(("{\"id\":\"" + path[3] + "\"}").getBytes(StandardCharsets.UTF_8));
+                    }
+                    default -> new Response(405, error(10405, "Method not allowed"));
+                };
+            }
+        }
+        return new Response(404, error(7000, "No route for that URI"));
+    }
+
+    // List zones
+    private Response listZones(Map<String, String> query) {
+        var name = query.get("name");
+        var result = mapper.createArrayNode();
+        for (var zone : zones.values()) if (name == null || zone.name.equalsIgnoreCase(name)) result.addObject().put("id", zone.id).put("name", zone.name).put("status", "active");
+        var response = mapper.createObjectNode();
+        response.set("result", result);
+        response.put("success", true);
+        response.putArray("errors");
+        response.putArray("messages");
+        response.putObject("result_info").put("page", 1).put("per_page", Math.max(1, result.size())).put("count", result.size()).put("total_count", result.size()).put("total_pages", 1);
+        return new Response(200, mapper.writeValueAsBytes(response));
+    }
+
+    // List records with pagination and exact match filters
+    private Response listRecords(Zone zone, Map<String, String> query) {
+
+        // Filter records
+        var matches = new ArrayList<Entry>();
+        for (var entry : zone.records.values()) if (entry.matches(query)) matches.add(entry);
+
+        // Sort records
+        var order = query.get("order");
+        if (order != null) {
+            Comparator<Entry> comparator = Comparator.comparing(entry -> entry.sortKey(order));
+            matches.sort("desc".equalsIgnoreCase(query.get("direction")) ? comparator.reversed() : comparator);
+        }
+
+        // Select page
+        var page = Math.max(1, Integer.parseInt(query.getOrDefault("page", "1")));
+        var perPage = Math.max(1, Integer.parseInt(query.getOrDefault("per_page", "100")));
+        var from = Math.min(matches.size(), (page - 1) * perPage);
+        var to = Math.min(matches.size(), from + perPage);
+
+        // Write response
+        var out = new ByteArrayOutputStream((to - from) * 420 + 256);
+        out.writeBytes("{\"result\":[".getBytes(StandardCharsets.UTF_8));
+        for (var i = from; i < to; i++) {
+            if (i > from) out.write(',');
+            out.writeBytes(matches.get(i).json);
+        }
+        var totalPages = (matches.size() + perPage - 1) / perPage;
+        out.writeBytes(("],\"success\":true,\"errors\":[],\"messages\":[],\"result_info\":{\"page\":" + page + ",\"per_page\":" + perPage + ",\"count\":" + (to - from) + ",\"total_count\":" + matches.size() + ",\"total_pages\":" + totalPages + "}}").getBytes(StandardCharsets.UTF_8));
+        return new Response(200, out.toByteArray());
+    }
+
+    // Write zone file in Cloudflare's export layout
+    private byte[] export(Zone zone) {
+        var builder = new StringBuilder(zone.records.size() * 96 + 256)
+                .append(";;\n;; Domain:     ").append(zone.name).append(".\n;;\n")
+                .append("$ORIGIN ").append(zone.name).append(".\n")
+                .append("@\t3600\tIN\tSOA\tns1.fake.test. admin.fake.test. (\n\t\t1 10000 2400 604800 3600 )\n\n");
+        for (var entry : zone.records.values()) {
+            builder.append(entry.name).append(".\t").append(entry.ttl).append("\tIN\t").append(entry.type).append('\t');
+            if (entry.type.equals("TXT")) builder.append('"').append(entry.content.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+            else if (entry.type.equals("CNAME") || entry.type.equals("NS") || entry.type.equals("PTR")) builder.append(entry.content).append('.');
+            else builder.append(entry.content);
+            builder.append(" ; cf_tags=cf-proxied:").append(entry.proxied).append('\n');
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Create records from an uploaded zone file
+    private Response importZone(Zone zone, byte[] body) {
+
+        // Split multipart form
+        var form = new String(body, StandardCharsets.UTF_8);
+        var boundary = "\r\n" + form.substring(0, form.indexOf("\r\n"));
+        var file = "";
+        var proxied = false;
+        for (var part : ("\r\n" + form).split(boundary)) {
+            var headerEnd = part.indexOf("\r\n\r\n");
+            if (headerEnd < 0) continue;
+            var value = part.substring(headerEnd + 4);
+            if (part.contains("name=\"file\"")) file = value;
+            else if (part.contains("name=\"proxied\"")) proxied = Boolean.parseBoolean(value.trim());
+        }
+
+        // Parse and create records
+        var added = 0;
+        try (var parser = new ZoneFileParser(new StringReader(file), zone.name)) {
+            while (parser.hasNext()) {
+                var record = parser.next();
+                zone.create(mapper.createObjectNode()
+                        .put("type", record.getType().name())
+                        .put("name", record.getName())
+                        .put("content", record.getContent())
+                        .put("ttl", record.getTtl())
+                        .put("proxied", proxied && record.getType().isProxiable()));
+                added++;
+            }
+        }
+        return success(("{\"recs_added\":" + added + ",\"total_records_parsed\":" + added + "}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Apply batch atomically
+    private Response batch(Zone zone, JsonNode body) {
+
+        // Validate referenced records first, nothing is applied on failure
+        for (var operation : List.of("deletes", "patches", "puts")) for (var change : body.path(operation)) {
+            if (!zone.records.containsKey(change.path("id").asString())) return new Response(404, error(81044, "Record does not exist."));
+        }
+
+        // Apply in API order
+        var result = mapper.createObjectNode();
+        var deletes = result.putArray("deletes");
+        for (var change : body.path("deletes")) deletes.add(mapper.readTree(zone.records.remove(change.get("id").asString()).json));
+        var patches = result.putArray("patches");
+        for (var change : body.path("patches")) patches.add(mapper.readTree(zone.update(change.get("id").asString(), change, true)));
+        var puts = result.putArray("puts");
+        for (var change : body.path("puts")) puts.add(mapper.readTree(zone.update(change.get("id").asString(), change, false)));
+        var posts = result.putArray("posts");
+        for (var change : body.path("posts")) posts.add(mapper.readTree(zone.create(change)));
+        return success(mapper.writeValueAsBytes(result));
+    }
+
+    // Check simulated rate limit
+    private synchronized boolean rateLimited() {
+        if (rateLimitNanos == 0) return false;
+        var now = System.nanoTime();
+        if (now - nextPermit < 0) return true;
+        nextPermit = Math.max(nextPermit, now - rateLimitNanos) + rateLimitNanos;
+        return false;
+    }
+
+    // Send response
+    private void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        exchange.getResponseBody().write(body);
+        bytesSent.addAndGet(body.length);
+    }
+
+    // Envelopes
+    private static Response success(byte[] result) {
+        var out = new ByteArrayOutputStream(result.length + 64);
+        out.writeBytes("{\"result\":".getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(result);
+        out.writeBytes(",\"success\":true,\"errors\":[],\"messages\":[]}".getBytes(StandardCharsets.UTF_8));
+        return new Response(200, out.toByteArray());
+    }
+
+    private static byte[] error(int code, String message) {
+        return ("{\"result\":null,\"success\":false,\"errors\":[{\"code\":" + code + ",\"message\":\"" + message.replace("\"", "'") + "\"}],\"messages\":[]}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Parse query string
+    private static Map<String, String> query(String rawQuery) {
+        var query = new HashMap<String, String>();
+        if (rawQuery == null || rawQuery.isEmpty()) return query;
+        for (var parameter : rawQuery.split("&")) {
+            var index = parameter.indexOf('=');
+            if (index < 0) query.put(URLDecoder.decode(parameter, StandardCharsets.UTF_8), "");
+            else query.put(URLDecoder.decode(parameter.substring(0, index), StandardCharsets.UTF_8), URLDecoder.decode(parameter.substring(index + 1), StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    // Get zone or fail
+    private Zone zone(String zoneId) {
+        var zone = zones.get(zoneId);
+        if (zone == null) throw new IllegalArgumentException("Unknown zone: " + zoneId);
+        return zone;
+    }
+
+    // Random 32 character hex ID
+    private static String randomId() {
+        var random = ThreadLocalRandom.current();
+        return String.format("%016x%016x", random.nextLong(), random.nextLong());
+    }
+
+    // Current API timestamp
+    private static String now() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS).toString();
+    }
+
+    // Response class
+    private static final class Response {
+
+        // Attributes
+        private final int status;
+        private final byte[] body;
+
+        // Constructor
+        private Response(int status, byte[] body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    // Stored record, serialized once
+    private static final class Entry {
+
+        // Attributes
+        private final String name;
+        private final String type;
+        private final String content;
+        private final String comment;
+        private final boolean proxied;
+        private final int ttl;
+        private final byte[] json;
+
+        // Constructor
+        private Entry(ObjectMapper mapper, ObjectNode record) {
+            name = record.path("name").asString();
+            type = record.path("type").asString();
+            content = record.path("content").asString();
+            comment = record.path("comment").isString() ? record.get("comment").asString() : null;
+            proxied = record.path("proxied").asBoolean();
+            ttl = record.path("ttl").asInt();
+            json = mapper.writeValueAsBytes(record);
+        }
+
+        // Check filters, combined with AND unless match=any
+        private boolean matches(Map<String, String> query) {
+            var any = "any".equalsIgnoreCase(query.get("match"));
+            var filtered = false;
+            for (var parameter : query.entrySet()) {
+                var result = matches(parameter.getKey(), parameter.getValue());
+                if (result == null) continue;
+                filtered = true;
+                if (any && result) return true;
+                if (!any && !result) return false;
+            }
+            return !any || !filtered;
+        }
+
+        // Check single filter, null if the parameter is not a filter
+        private Boolean matches(String parameter, String value) {
+            var index = parameter.indexOf('.');
+            var field = index < 0 ? parameter : parameter.substring(0, index);
+            var operator = index < 0 ? "exact" : parameter.substring(index + 1);
+            var actual = switch (field) {
+                case "name" -> name.toLowerCase(Locale.ROOT);
+                case "type" -> type.toLowerCase(Locale.ROOT);
+                case "content" -> content;
+                case "comment" -> comment;
+                case "proxied" -> String.valueOf(proxied);
+                default -> null;
+            };
+            if (actual == null) return field.equals("comment") ? operator.equals("absent") : null;
+            var expected = field.equals("name") || field.equals("type") ? value.toLowerCase(Locale.ROOT) : value;
+            return switch (operator) {
+                case "exact" -> actual.equals(expected);
+                case "contains" -> actual.contains(expected);
+                case "startswith" -> actual.startsWith(expected);
+                case "endswith" -> actual.endsWith(expected);
+                case "present" -> true;
+                case "absent" -> false;
+                default -> null;
+            };
+        }
+
+        // Sort key for order parameter
+        private String sortKey(String order) {
+            return switch (order) {
+                case "type" -> type;
+                case "content" -> content;
+                case "ttl" -> String.format("%010d", ttl);
+                case "proxied" -> String.valueOf(proxied);
+                default -> name;
+            };
+        }
+    }
+
+    // Zone class
+    private final class Zone {
+
+        // Attributes
+        private final String id;
+        private final String name;
+        private final LinkedHashMap<String, Entry> records;
+
+        // Constructor
+        private Zone(String id, String name) {
+            this.id = id;
+            this.name = name;
+            records = new LinkedHashMap<>();
+        }
+
+        // Store record
+        private byte[] put(JsonNode record) {
+            var entry = new Entry(mapper, (ObjectNode) record);
+            records.put(record.get("id").asString(), entry);
+            return entry.json;
+        }
+
+        // Create record with server-owned fields
+        private byte[] create(JsonNode input) {
+            var type = input.path("type").asString();
+            var timestamp = now();
+            var record = mapper.createObjectNode()
+                    .put("id", randomId())
+                    .put("zone_id", id)
+                    .put("zone_name", name)
+                    .put("name", input.path("name").asString())
+                    .put("type", type)
+                    .put("content", content(input))
+                    .put("proxiable", type.equals("A") || type.equals("AAAA") || type.equals("CNAME"))
+                    .put("proxied", input.path("proxied").asBoolean(false))
+                    .put("ttl", input.path("ttl").asInt(1));
+            if (input.has("priority")) record.set("priority", input.get("priority"));
+            if (input.has("data")) record.set("data", input.get("data"));
+            if (input.path("comment").isString()) record.put("comment", input.get("comment").asString());
+            else record.putNull("comment");
+            record.putArray("tags");
+            record.put("created_on", timestamp).put("modified_on", timestamp);
+            return put(record);
+        }
+
+        // Derive content from structured data when only data was sent
+        private static String content(JsonNode input) {
+            if (input.path("content").isString() || !input.has("data")) return input.path("content").asString();
+            var data = RecordData.fromJson(RecordType.fromString(input.path("type").asString()), null, input.get("data"), input.path("priority").asInt());
+            return data == null ? "" : data.toContent();
+        }
+
+        // Replace or patch record
+        private byte[] update(String recordId, JsonNode input, boolean patch) {
+            var record = (ObjectNode) mapper.readTree(records.get(recordId).json);
+            for (var field : List.of("name", "type", "content", "proxied", "ttl", "comment", "priority", "data")) {
+                if (input.has(field)) record.set(field, input.get(field));
+                else if (!patch && (field.equals("comment") || field.equals("priority") || field.equals("data"))) record.remove(field);
+            }
+            if (!input.has("content") && input.has("data")) record.put("content", content(record.without("content")));
+            if (!record.has("comment")) record.putNull("comment");
+            record.put("modified_on", now());
+            return put(record);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package de.MCmoderSD.cloudflare.benchmark;
+
+import de.MCmoderSD.cloudflare.core.CloudflareClient;
+import de.MCmoderSD.cloudflare.core.RateLimiter;
+import de.MCmoderSD.cloudflare.enums.RecordType;
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GetRecordsBenchmark {
+
+    // Zone size
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    // Attributes
+    private FakeCloudflareServer server;
+    private CloudflareClient client;
+
+    @Setup
+    public void setup() throws IOException {
+
+        // Start local API with a synthetic zone
+        server = new FakeCloudflareServer();
+        var zoneId = server.addZone(SyntheticZone.ZONE_NAME);
+        server.populate(zoneId, size);
+
+        // Point client at it, without the production rate limit
+        client = CloudflareClient.builder(zoneId, "benchmark-token")
+                .baseUri(server.getBaseUri())
+                .requestTimeout(Duration.ofMinutes(1))
+                .build();
+        client.setRateLimiter(new RateLimiter(Integer.MAX_VALUE, Duration.ofSeconds(1)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    // Full zone with default page size
+    @Benchmark
+    public HashSet<DnsRecord> getRecords() {
+        return client.getRecords();
+    }
+
+    // Full zone requested by many threads at once, concurrent reads share one fetch
+    @Benchmark
+    @Threads(16)
+    public HashSet<DnsRecord> getRecordsConcurrent() {
+        return client.getRecords();
+    }
+
+    // Full zone streamed with large pages
+    @Benchmark
+    public long streamRecords() {
+        try (var records = client.streamRecords(5000)) {
+            return records.count();
+        }
+    }
+
+    // Full zone scanned through a reusable view with large pages, reading only type and name
+    @Benchmark
+    public long scanRecords() {
+        var matches = new long[1];
+        client.scanRecords(5000, view -> {
+            if (view.getType() == RecordType.A && view.nameEndsWith(SyntheticZone.ZONE_NAME)) matches[0]++;
+        });
+        return matches[0];
+    }
+}
@@ -0,0 +1,78 @@
+package de.MCmoderSD.cloudflare.benchmark;
+
+import de.MCmoderSD.cloudflare.core.CloudflareClient;
+import de.MCmoderSD.cloudflare.core.RateLimiter;
+import de.MCmoderSD.cloudflare.enums.RecordType;
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+// Records with structured data in an unexpected shape must not fail a listing, run with: java -cp target/benchmarks.jar de.MCmoderSD.cloudflare.benchmark.MalformedRecordTest
+public final class MalformedRecordTest {
+
+    // Constants
+    private static final int ZONE_SIZE = 100;
+
+    // Data objects that fail validation, by record type
+    private static final Map<RecordType, String> MALFORMED = Map.of(
+            RecordType.SRV, "{\"priority\":10,\"weight\":5,\"port\":70000,\"target\":\"sip.example.com\"}",
+            RecordType.CAA, "{\"flags\":0,\"tag\":\"\",\"value\":\"letsencrypt.org\"}",
+            RecordType.LOC, "{\"lat_degrees\":52,\"lat_direction\":\"\",\"long_degrees\":13,\"long_direction\":\"E\"}"
+    );
+
+    // Constructor
+    private MalformedRecordTest() {
+        // Utility class
+    }
+
+    public static void main(String[] args) throws Exception {
+        try (var server = new FakeCloudflareServer()) {
+
+            // Synthetic zone plus one malformed record per type
+            var zoneId = server.addZone(SyntheticZone.ZONE_NAME);
+            server.populate(zoneId, ZONE_SIZE);
+            var index = 0;
+            for (var entry : MALFORMED.entrySet()) server.addRecord(zoneId, record(index++, entry.getKey(), entry.getValue()));
+            var client = CloudflareClient.builder(zoneId, "malformed-token").baseUri(server.getBaseUri()).build();
+            client.setRateLimiter(new RateLimiter(Integer.MAX_VALUE, Duration.ofSeconds(1)));
+
+            // Both the buffered and the streaming listing keep every record
+            check("getRecords", client.getRecords());
+            try (var stream = client.streamRecords()) {
+                check("streamRecords", stream.toList());
+            }
+            System.out.println("OK");
+        }
+    }
+
+    // Check that malformed records are listed with their content but without data
+    private static void check(String listing, Collection<DnsRecord> records) {
+        if (records.size() != ZONE_SIZE + MALFORMED.size()) throw new IllegalStateException(listing + " returned " + records.size() + " records");
+        for (var record : records) {
+            if (!MALFORMED.containsKey(record.getType())) continue;
+            if (record.getData() != null) throw new IllegalStateException(listing + " parsed malformed " + record.getType() + " data");
+            if (!record.getContent().equals("malformed")) throw new IllegalStateException(listing + " lost content of " + record.getType() + " record");
+        }
+        System.out.printf("%-14s %d records%n", listing + ":", records.size());
+    }
+
+    // Build API record with the given data object
+    private static String record(int index, RecordType type, String data) {
+        return "{\"id\":\"" + String.format("%032x", 0xBAD0 + index) + "\","
+                + "\"zone_id\":\"" + SyntheticZone.ZONE_ID + "\","
+                + "\"zone_name\":\"" + SyntheticZone.ZONE_NAME + "\","
+                + "\"name\":\"malformed-" + index + "." + SyntheticZone.ZONE_NAME + "\","
+                + "\"type\":\"" + type + "\","
+                + "\"content\":\"malformed\","
+                + "\"proxiable\":false,"
+                + "\"proxied\":false,"
+                + "\"ttl\":300,"
+                + "\"data\":" + data + ","
+                + "\"comment\":null,"
+                + "\"tags\":[],"
+                + "\"created_on\":\"2024-05-01T12:34:56.123456Z\","
+                + "\"modified_on\":\"2024-05-02T08:15:30.654321Z\"}";
+    }
+}
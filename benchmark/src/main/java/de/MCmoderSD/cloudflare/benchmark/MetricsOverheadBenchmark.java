@@ -0,0 +1,59 @@
+package de.MCmoderSD.cloudflare.benchmark;
+
+import de.MCmoderSD.cloudflare.core.CloudflareClient;
+import de.MCmoderSD.cloudflare.core.RateLimiter;
+import de.MCmoderSD.cloudflare.metrics.ApiMetrics;
+import de.MCmoderSD.cloudflare.metrics.MicrometerMetrics;
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+
+    // Instrumentation
+    @Param({"none", "micrometer"})
+    public String metrics;
+
+    // Attributes
+    private FakeCloudflareServer server;
+    private CloudflareClient client;
+    private String recordId;
+
+    @Setup
+    public void setup() throws IOException {
+
+        // Start local API with a small zone
+        server = new FakeCloudflareServer();
+        var zoneId = server.addZone(SyntheticZone.ZONE_NAME);
+        server.populate(zoneId, 100);
+
+        // Point client at it, with or without a registry behind the SPI
+        client = CloudflareClient.builder(zoneId, "benchmark-token")
+                .baseUri(server.getBaseUri())
+                .metrics(metrics.equals("none") ? ApiMetrics.NOOP : new MicrometerMetrics(new SimpleMeterRegistry()))
+                .build();
+        client.setRateLimiter(new RateLimiter(Integer.MAX_VALUE, Duration.ofSeconds(1)));
+        recordId = client.getRecords().iterator().next().getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    // Single round trip, dominated by the loopback request
+    @Benchmark
+    public DnsRecord getRecord() {
+        return client.getRecord(recordId);
+    }
+}
@@ -0,0 +1,76 @@
+package de.MCmoderSD.cloudflare.benchmark;
+
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
+
+import java.lang.ref.Reference;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// Retained heap of parsed records, run with: java -cp target/benchmarks.jar de.MCmoderSD.cloudflare.benchmark.RecordFootprint
+public final class RecordFootprint {
+
+    // Constants
+    private static final int RECORDS = 100000;
+
+    // Constructor
+    private RecordFootprint() {
+        // Utility class
+    }
+
+    public static void main(String[] args) {
+        var mapper = new ObjectMapper();
+        var page = zone(RECORDS);
+        System.out.printf("%d records, %d bytes of JSON%n", RECORDS, page.length);
+
+        // Parsed records
+        var before = usedMemory();
+        var records = parse(mapper, page);
+        var after = usedMemory();
+        System.out.printf("DnsRecord: %.1f bytes per record%n", (after - before) / (double) records.size());
+
+        // Tree model for comparison
+        before = usedMemory();
+        var tree = mapper.readTree(page);
+        after = usedMemory();
+        System.out.printf("JsonNode:  %.1f bytes per record%n", (after - before) / (double) tree.get("result").size());
+
+        // Keep both alive until measured
+        Reference.reachabilityFence(records);
+        Reference.reachabilityFence(tree);
+    }
+
+    // Zone where names repeat for several record types and content repeats across hosts, as in real zones
+    static byte[] zone(int size) {
+        var builder = new StringBuilder(size * 420 + 64).append("{\"result\":[");
+        for (var i = 0; i < size; i++) {
+            if (i > 0) builder.append(',');
+            var record = SyntheticZone.record(i)
+                    .replace("\"name\":\"host-" + i + ".", "\"name\":\"host-" + i / 4 + ".")
+                    .replaceFirst("\"content\":\"[0-9.]+\"", "\"content\":\"192.0.2." + i % 64 + "\"");
+            builder.append(record);
+        }
+        return builder.append("],\"success\":true,\"errors\":[],\"messages\":[]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Parse result array with the streaming constructor
+    static List<DnsRecord> parse(ObjectMapper mapper, byte[] page) {
+        var records = new ArrayList<DnsRecord>(RECORDS);
+        try (var parser = mapper.createParser(page)) {
+            parser.nextToken(); // Envelope
+            parser.nextToken(); // "result"
+            parser.nextToken(); // Array
+            while (parser.nextToken() == JsonToken.START_OBJECT) records.add(new DnsRecord(parser));
+        }
+        return records;
+    }
+
+    // Heap in use after collecting garbage
+    private static long usedMemory() {
+        var runtime = Runtime.getRuntime();
+        for (var i = 0; i < 5; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
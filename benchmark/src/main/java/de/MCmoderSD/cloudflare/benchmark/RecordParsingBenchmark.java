@@ -0,0 +1,52 @@
+package de.MCmoderSD.cloudflare.benchmark;
+
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecordParsingBenchmark {
+
+    // Attributes
+    private ObjectMapper mapper;
+    private JsonNode node;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        mapper = new ObjectMapper();
+        var json = SyntheticZone.record(4);
+        node = mapper.readTree(json);
+        bytes = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // DnsRecord(JsonNode) with its has()/get() checks and timestamp parsing
+    @Benchmark
+    public DnsRecord fromJsonNode() {
+        return new DnsRecord(node);
+    }
+
+    // Bytes to tree to record
+    @Benchmark
+    public DnsRecord fromBytesViaTree() {
+        return new DnsRecord(mapper.readTree(bytes));
+    }
+
+    // Bytes to record through the streaming parser
+    @Benchmark
+    public DnsRecord fromBytesViaParser() {
+        try (var parser = mapper.createParser(bytes)) {
+            parser.nextToken();
+            return new DnsRecord(parser);
+        }
+    }
+}
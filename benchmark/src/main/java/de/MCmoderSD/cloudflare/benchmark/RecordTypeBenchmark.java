@@ -0,0 +1,25 @@
+package de.MCmoderSD.cloudflare.benchmark;
+
+import de.MCmoderSD.cloudflare.enums.RecordType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecordTypeBenchmark {
+
+    // First, middle and last value, in API and lower case
+    @Param({"A", "MX", "URI", "txt"})
+    public String type;
+
+    // RecordType.fromString
+    @Benchmark
+    public RecordType fromString() {
+        return RecordType.fromString(type);
+    }
+}
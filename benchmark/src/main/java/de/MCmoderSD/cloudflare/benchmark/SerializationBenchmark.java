@@ -0,0 +1,82 @@
+package de.MCmoderSD.cloudflare.benchmark;
+
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+import de.MCmoderSD.cloudflare.objects.ModifiedRecord;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.util.concurrent.TimeUnit;
+
+import static de.MCmoderSD.cloudflare.enums.RecordType.TXT;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    // Attributes
+    private ModifiedRecord modifiedRecord;
+    private DnsRecord.Builder builder;
+
+    @Setup
+    public void setup() {
+
+        // Modified record
+        modifiedRecord = new ModifiedRecord(new DnsRecord(new ObjectMapper().readTree(SyntheticZone.record(4))));
+        modifiedRecord.modifyContent("10.1.2.3");
+        modifiedRecord.modifyTtl(600);
+
+        // Builder
+        builder = DnsRecord.builder(TXT)
+                .name("hello-world." + SyntheticZone.ZONE_NAME)
+                .content("This is a test record.")
+                .ttl(3600)
+                .comment("benchmark");
+    }
+
+    // ModifiedRecord.getModifiedContent()
+    @Benchmark
+    public ObjectNode modifiedContent() {
+        return modifiedRecord.getModifiedContent();
+    }
+
+    // ModifiedRecord.getModifiedContent() up to the request body string
+    @Benchmark
+    public String modifiedContentBody() {
+        return modifiedRecord.getModifiedContent().toString();
+    }
+
+    // ModifiedRecord.getModifiedBytes(), the request body as sent
+    @Benchmark
+    public byte[] modifiedBytes() {
+        return modifiedRecord.getModifiedBytes();
+    }
+
+    // ModifiedRecord.getChangedBytes(), the PATCH body with changed attributes only
+    @Benchmark
+    public byte[] changedBytes() {
+        return modifiedRecord.getChangedBytes();
+    }
+
+    // DnsRecord.Builder.buildJson()
+    @Benchmark
+    public ObjectNode buildJson() {
+        return builder.buildJson();
+    }
+
+    // DnsRecord.Builder.buildJson() up to the request body string
+    @Benchmark
+    public String buildJsonBody() {
+        return builder.buildJson().toString();
+    }
+
+    // DnsRecord.Builder.buildBytes(), the request body as sent
+    @Benchmark
+    public byte[] buildBytes() {
+        return builder.buildBytes();
+    }
+}
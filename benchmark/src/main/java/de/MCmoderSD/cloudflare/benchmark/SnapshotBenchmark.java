@@ -0,0 +1,159 @@
+package de.MCmoderSD.cloudflare.benchmark;
+
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+import de.MCmoderSD.cloudflare.objects.ZoneSnapshot;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SnapshotBenchmark {
+
+    // Zone size
+    @Param({"1000", "100000"})
+    public int size;
+
+    // Attributes
+    private ObjectMapper mapper;
+    private HashSet<DnsRecord> records;
+    private ZoneSnapshot snapshot;
+
+    // Encoded zone
+    private byte[] snapshotBytes;
+    private byte[] javaBytes;
+    private byte[] jsonBytes;
+    private Path snapshotFile;
+
+    @Setup
+    public void setup() throws IOException, ClassNotFoundException {
+
+        // Parse synthetic zone
+        mapper = new ObjectMapper();
+        records = new HashSet<>(parseJson(mapper, SyntheticZone.zone(size)));
+        snapshot = new ZoneSnapshot(SyntheticZone.ZONE_ID, records);
+
+        // Encode once for the read benchmarks
+        snapshotBytes = writeSnapshot();
+        javaBytes = writeJava();
+        jsonBytes = writeJson();
+        snapshotFile = Files.createTempFile("zone-snapshot", ".bin");
+        Files.write(snapshotFile, snapshotBytes);
+
+        // Every format must round-trip the same records
+        if (!records.equals(new HashSet<>(readSnapshot()))) throw new IllegalStateException("Snapshot round-trip changed records");
+        if (!records.equals(new HashSet<>(readSnapshotMapped()))) throw new IllegalStateException("Mapped snapshot round-trip changed records");
+        if (!records.equals(readJava())) throw new IllegalStateException("Java serialization round-trip changed records");
+        if (!records.equals(new HashSet<>(readJson()))) throw new IllegalStateException("JSON round-trip changed records");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshotFile);
+    }
+
+    // Binary snapshot
+    @Benchmark
+    public byte[] writeSnapshot() throws IOException {
+        var outputStream = new ByteArrayOutputStream(size * 128);
+        snapshot.write(outputStream);
+        return outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public List<DnsRecord> readSnapshot() {
+        return ZoneSnapshot.read(ByteBuffer.wrap(snapshotBytes)).getRecords();
+    }
+
+    @Benchmark
+    public List<DnsRecord> readSnapshotMapped() throws IOException {
+        return ZoneSnapshot.read(snapshotFile).getRecords();
+    }
+
+    // Java serialization
+    @Benchmark
+    public byte[] writeJava() throws IOException {
+        var outputStream = new ByteArrayOutputStream(size * 512);
+        try (var objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(records);
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public HashSet<DnsRecord> readJava() throws IOException, ClassNotFoundException {
+        try (var objectInputStream = new ObjectInputStream(new ByteArrayInputStream(javaBytes))) {
+            return (HashSet<DnsRecord>) objectInputStream.readObject();
+        }
+    }
+
+    // JSON in the API's record shape
+    @Benchmark
+    public byte[] writeJson() {
+        var outputStream = new ByteArrayOutputStream(size * 256);
+        try (var generator = mapper.createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeArrayPropertyStart("result");
+            for (var record : records) {
+                generator.writeStartObject();
+                generator.writeStringProperty("id", record.getId());
+                generator.writeStringProperty("name", record.getName());
+                generator.writeStringProperty("type", record.getType().name());
+                generator.writeStringProperty("content", record.getContent());
+                generator.writeBooleanProperty("proxiable", record.isProxiable());
+                generator.writeBooleanProperty("proxied", record.isProxied());
+                generator.writeNumberProperty("ttl", record.getTtl());
+                generator.writeStringProperty("comment", record.getComment());
+                generator.writeStringProperty("created_on", timestamp(record.getCreatedMicros()));
+                generator.writeStringProperty("modified_on", timestamp(record.getModifiedMicros()));
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public List<DnsRecord> readJson() {
+        return parseJson(mapper, jsonBytes);
+    }
+
+    // Parse result array with the streaming constructor
+    private static List<DnsRecord> parseJson(ObjectMapper mapper, byte[] json) {
+        var result = new ArrayList<DnsRecord>();
+        try (var parser = mapper.createParser(json)) {
+            parser.nextToken(); // Envelope
+            while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                var token = parser.nextToken();
+                if (!parser.currentName().equals("result")) parser.skipChildren();
+                else if (token == JsonToken.START_ARRAY) while (parser.nextToken() == JsonToken.START_OBJECT) result.add(new DnsRecord(parser));
+            }
+        }
+        return result;
+    }
+
+    // Format epoch microseconds as the API does
+    private static String timestamp(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1000).toString();
+    }
+}
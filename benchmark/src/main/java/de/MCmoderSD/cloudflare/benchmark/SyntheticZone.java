@@ -0,0 +1,64 @@
+package de.MCmoderSD.cloudflare.benchmark;
+
+import java.nio.charset.StandardCharsets;
+
+public final class SyntheticZone {
+
+    // Constants
+    public static final String ZONE_ID = "023e105f4ecef8ad9ca31a8372d0c353";
+    public static final String ZONE_NAME = "example.com";
+
+    // Constructor
+    private SyntheticZone() {
+        // Utility class
+    }
+
+    // Build single record as returned by the API
+    public static String record(int index) {
+        return "{\"id\":\"" + id(index) + "\","
+                + "\"zone_id\":\"" + ZONE_ID + "\","
+                + "\"zone_name\":\"" + ZONE_NAME + "\","
+                + "\"name\":\"host-" + index + "." + ZONE_NAME + "\","
+                + "\"type\":\"A\","
+                + "\"content\":\"10." + (index >> 16 & 0xFF) + "." + (index >> 8 & 0xFF) + "." + (index & 0xFF) + "\","
+                + "\"proxiable\":true,"
+                + "\"proxied\":false,"
+                + "\"ttl\":300,"
+                + "\"settings\":{},"
+                + "\"meta\":{\"auto_added\":false,\"managed_by_apps\":false,\"managed_by_argo_tunnel\":false},"
+                + "\"comment\":" + (index % 4 == 0 ? "\"synthetic record " + index + "\"" : "null") + ","
+                + "\"tags\":[],"
+                + "\"created_on\":\"2024-05-01T12:34:56.123456Z\","
+                + "\"modified_on\":\"2024-05-02T08:15:30.654321Z\"}";
+    }
+
+    // Build record ID
+    public static String id(int index) {
+        return String.format("%032x", index * 2654435761L & 0xFFFFFFFFL);
+    }
+
+    // Build one list page
+    public static byte[] page(int size, int count, int page, int perPage) {
+        var from = (page - 1) * perPage;
+        var to = Math.min(size, from + perPage);
+        var builder = new StringBuilder(Math.max(0, to - from) * 420 + 256).append("{\"result\":[");
+        for (var i = from; i < to; i++) {
+            if (i > from) builder.append(',');
+            builder.append(record(i));
+        }
+        var totalPages = (size + perPage - 1) / perPage;
+        builder.append("],\"success\":true,\"errors\":[],\"messages\":[],\"result_info\":{")
+                .append("\"page\":").append(page)
+                .append(",\"per_page\":").append(perPage)
+                .append(",\"count\":").append(Math.max(0, to - from))
+                .append(",\"total_count\":").append(count)
+                .append(",\"total_pages\":").append(totalPages)
+                .append("}}");
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Build whole zone as a single page
+    public static byte[] zone(int size) {
+        return page(size, size, 1, Math.max(1, size));
+    }
+}
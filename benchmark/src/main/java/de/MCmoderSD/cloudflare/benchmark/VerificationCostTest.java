@@ -0,0 +1,62 @@
+package de.MCmoderSD.cloudflare.benchmark;
+
+import de.MCmoderSD.cloudflare.core.CloudflareClient;
+import de.MCmoderSD.cloudflare.core.RateLimiter;
+import de.MCmoderSD.cloudflare.enums.VerificationPolicy;
+import de.MCmoderSD.cloudflare.objects.ModifiedRecord;
+
+import java.time.Duration;
+import java.util.ArrayList;
+
+// Round trips and bytes spent on verifying record writes, run with: java -cp target/benchmarks.jar de.MCmoderSD.cloudflare.benchmark.VerificationCostTest
+public final class VerificationCostTest {
+
+    // Constants
+    private static final int ZONE_SIZE = 1000;
+    private static final int UPDATES = 100;
+
+    // Constructor
+    private VerificationCostTest() {
+        // Utility class
+    }
+
+    public static void main(String[] args) throws Exception {
+        try (var server = new FakeCloudflareServer()) {
+
+            // One zone, without the production rate limit
+            var zoneId = server.addZone(SyntheticZone.ZONE_NAME);
+            server.populate(zoneId, ZONE_SIZE);
+            var client = CloudflareClient.builder(zoneId, "verification-token")
+                    .baseUri(server.getBaseUri())
+                    .requestTimeout(Duration.ofMinutes(1))
+                    .build();
+            client.setRateLimiter(new RateLimiter(Integer.MAX_VALUE, Duration.ofSeconds(1)));
+            var records = new ArrayList<>(client.getRecords()).subList(0, UPDATES);
+            System.out.printf("%d updates per policy in a zone of %d records%n", UPDATES, ZONE_SIZE);
+
+            // Same updates under each policy, each with its own TTL so no update is skipped as unchanged
+            for (var policy : VerificationPolicy.values()) {
+                client.setVerificationPolicy(policy);
+                var ttl = 360 + policy.ordinal() * 60;
+                var updates = new ArrayList<ModifiedRecord>(UPDATES);
+                for (var record : records) {
+                    var modifiedRecord = new ModifiedRecord(record);
+                    modifiedRecord.modifyTtl(ttl);
+                    updates.add(modifiedRecord);
+                }
+
+                // Measure
+                server.resetStatistics();
+                var start = System.nanoTime();
+                for (var update : updates) if (!client.updateRecord(update)) throw new IllegalStateException("Update could not be verified");
+                var millis = (System.nanoTime() - start) / 1_000_000;
+                System.out.printf("%-10s %5.1f requests, %9.1f response bytes, %6.1f request bytes per update, %5d ms%n",
+                        policy + ":",
+                        server.getRequestCount() / (double) UPDATES,
+                        server.getBytesSent() / (double) UPDATES, // Sent by the server, read by the client
+                        server.getBytesReceived() / (double) UPDATES,
+                        millis);
+            }
+        }
+    }
+}
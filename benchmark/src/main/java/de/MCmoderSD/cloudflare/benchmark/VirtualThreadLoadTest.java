@@ -0,0 +1,152 @@
+package de.MCmoderSD.cloudflare.benchmark;
+
+import de.MCmoderSD.cloudflare.core.CloudflareAccount;
+import de.MCmoderSD.cloudflare.core.CloudflareClient;
+import de.MCmoderSD.cloudflare.core.Deadline;
+import de.MCmoderSD.cloudflare.core.RateLimiter;
+import de.MCmoderSD.cloudflare.enums.VerificationPolicy;
+import de.MCmoderSD.cloudflare.exceptions.DeadlineExceededException;
+import de.MCmoderSD.cloudflare.exceptions.RequestCancelledException;
+import de.MCmoderSD.cloudflare.objects.ModifiedRecord;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Blocking updates fanned out over many zones under one deadline, run with: java -cp target/benchmarks.jar de.MCmoderSD.cloudflare.benchmark.VirtualThreadLoadTest
+public final class VirtualThreadLoadTest {
+
+    // Constants
+    private static final int ZONES = 50;
+    private static final int RECORDS_PER_ZONE = 20;
+    private static final Duration LATENCY = Duration.ofMillis(100);
+    private static final Duration DEADLINE = Duration.ofSeconds(60);
+
+    // Constructor
+    private VirtualThreadLoadTest() {
+        // Utility class
+    }
+
+    public static void main(String[] args) throws Exception {
+        try (var server = new FakeCloudflareServer()) {
+
+            // Zones behind one account, answering after a simulated round trip
+            var account = CloudflareAccount.builder("load-test-token")
+                    .baseUri(server.getBaseUri())
+                    .requestTimeout(Duration.ofSeconds(30))
+                    .build();
+            var clients = new ArrayList<CloudflareClient>(ZONES);
+            for (var i = 0; i < ZONES; i++) {
+                var zoneId = server.addZone("zone-" + i + ".example");
+                server.populate(zoneId, RECORDS_PER_ZONE);
+                var client = account.zoneById(zoneId);
+                client.setRateLimiter(new RateLimiter(Integer.MAX_VALUE, Duration.ofSeconds(1)));
+                client.setVerificationPolicy(VerificationPolicy.NONE);
+                clients.add(client);
+            }
+            server.setLatency(LATENCY);
+            System.out.printf("%d zones, %d updates per round, %d ms latency per request, %d CPUs%n", ZONES, ZONES * RECORDS_PER_ZONE, LATENCY.toMillis(), Runtime.getRuntime().availableProcessors());
+
+            // Throughput with platform thread pools against one virtual thread per update
+            var round = 0;
+            for (var threads : new int[] {8, 64, 256}) {
+                try (var executor = Executors.newFixedThreadPool(threads)) {
+                    report("Platform threads (" + threads + ")", run(executor, clients, ++round));
+                }
+            }
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                report("Virtual threads", run(executor, clients, ++round));
+            }
+
+            // A deadline shorter than the work fails the remaining calls promptly instead of letting them queue up
+            server.setLatency(Duration.ofMillis(200));
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                var result = run(executor, clients, ++round, Duration.ofMillis(500));
+                System.out.printf("Deadline 500 ms:     %d completed, %d exceeded, returned after %d ms%n", result.completed, result.exceeded, result.nanos / 1_000_000);
+            }
+
+            // Interrupting a blocked caller cancels the call and keeps the interrupt status
+            var status = new AtomicInteger();
+            var thread = Thread.ofVirtual().start(() -> {
+                try {
+                    clients.getFirst().getRecords();
+                } catch (RequestCancelledException e) {
+                    status.set(Thread.currentThread().isInterrupted() ? 1 : 2);
+                }
+            });
+            Thread.sleep(50);
+            thread.interrupt();
+            thread.join();
+            System.out.println("Interrupt:           " + (status.get() == 1 ? "cancelled, interrupt status kept" : status.get() == 2 ? "cancelled, interrupt status lost" : "not cancelled"));
+        }
+    }
+
+    // Update every record once under a generous deadline
+    private static Result run(ExecutorService executor, List<CloudflareClient> clients, int round) throws InterruptedException {
+        return run(executor, clients, round, DEADLINE);
+    }
+
+    // Update every record once, each task bound to one shared deadline
+    private static Result run(ExecutorService executor, List<CloudflareClient> clients, int round, Duration timeout) throws InterruptedException {
+
+        // Prepare updates outside the measurement
+        var updates = new ArrayList<Update>(ZONES * RECORDS_PER_ZONE);
+        for (var client : clients) {
+            for (var record : client.getRecords()) {
+                var modifiedRecord = new ModifiedRecord(record);
+                modifiedRecord.modifyTtl(record.getTtl() == 300 + round * 60 ? 240 : 300 + round * 60);
+                updates.add(new Update(client, modifiedRecord));
+            }
+        }
+
+        // Fan out
+        var start = System.nanoTime();
+        var deadline = Deadline.after(timeout);
+        var futures = new ArrayList<Future<Boolean>>(updates.size());
+        for (var update : updates) futures.add(executor.submit(() -> deadline.get(() -> update.client.updateRecord(update.record))));
+
+        // Collect outcomes
+        var result = new Result();
+        for (var future : futures) {
+            try {
+                if (future.get()) result.completed++;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof DeadlineExceededException) result.exceeded++;
+                else throw new IllegalStateException("Update failed", e.getCause());
+            }
+        }
+        result.nanos = System.nanoTime() - start;
+        return result;
+    }
+
+    // Print throughput
+    private static void report(String label, Result result) {
+        System.out.printf("%-20s %5d updates in %6d ms, %8.1f updates/s%n", label + ":", result.completed, result.nanos / 1_000_000, result.completed * 1e9 / result.nanos);
+    }
+
+    // Update of one record through its zone's client
+    private static final class Update {
+
+        // Attributes
+        private final CloudflareClient client;
+        private final ModifiedRecord record;
+
+        // Constructor
+        private Update(CloudflareClient client, ModifiedRecord record) {
+            this.client = client;
+            this.record = record;
+        }
+    }
+
+    // Outcome of one round
+    private static final class Result {
+        private int completed;
+        private int exceeded;
+        private long nanos;
+    }
+}
@@ -0,0 +1,55 @@
+package de.MCmoderSD.cloudflare.benchmark;
+
+import de.MCmoderSD.cloudflare.core.ZoneFileParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ZoneFileBenchmark {
+
+    // Zone size
+    @Param({"10000", "100000"})
+    public int size;
+
+    // Attributes
+    private String zoneFile;
+
+    @Setup
+    public void setup() {
+
+        // Zone file in Cloudflare's export layout with a mix of record types
+        var builder = new StringBuilder(size * 80 + 256)
+                .append("$ORIGIN ").append(SyntheticZone.ZONE_NAME).append(".\n")
+                .append("@\t3600\tIN\tSOA\tns1.example.net. admin.example.net. (\n\t\t1 10000 2400 604800 3600 )\n");
+        for (var i = 0; i < size; i++) {
+            var name = "host-" + i + "." + SyntheticZone.ZONE_NAME + ".\t300\tIN\t";
+            builder.append(switch (i % 4) {
+                case 0 -> name + "A\t10." + (i >> 16 & 0xFF) + "." + (i >> 8 & 0xFF) + "." + (i & 0xFF) + " ; cf_tags=cf-proxied:true";
+                case 1 -> name + "TXT\t\"v=spf1 include:_spf.example.net ~all\"";
+                case 2 -> name + "CNAME\thost-" + (i - 1) + "." + SyntheticZone.ZONE_NAME + ".";
+                default -> name + "MX\t10 mx" + i % 8 + "." + SyntheticZone.ZONE_NAME + ".";
+            }).append('\n');
+        }
+        zoneFile = builder.toString();
+    }
+
+    // Parse whole file
+    @Benchmark
+    public int parse() {
+        var count = 0;
+        try (var parser = new ZoneFileParser(new StringReader(zoneFile), SyntheticZone.ZONE_NAME)) {
+            while (parser.hasNext()) {
+                parser.next();
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,71 @@
+package de.MCmoderSD.cloudflare.benchmark;
+
+import de.MCmoderSD.cloudflare.core.ZoneSync;
+import de.MCmoderSD.cloudflare.enums.RecordType;
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+import de.MCmoderSD.cloudflare.objects.ZonePlan;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ZoneSyncBenchmark {
+
+    // Zone size, plan time should grow linearly
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    // Attributes
+    private List<DnsRecord> current;
+    private List<DnsRecord.Builder> desired;
+
+    @Setup
+    public void setup() {
+
+        // Parse synthetic zone
+        current = parseJson(new ObjectMapper(), SyntheticZone.zone(size));
+
+        // Desired state: most records unchanged, some with a new TTL or address, some removed and some added
+        desired = new ArrayList<>(size);
+        for (var i = 0; i < current.size(); i++) {
+            var record = current.get(i);
+            if (i % 50 == 0) continue; // Deleted
+            var builder = DnsRecord.builder(RecordType.A)
+                    .name(record.getName())
+                    .content(i % 20 == 1 ? "192.0.2." + i % 256 : record.getContent())
+                    .ttl(i % 20 == 2 ? 600 : record.getTtl());
+            if (record.getComment() != null) builder.comment(record.getComment());
+            desired.add(builder);
+        }
+        for (var i = 0; i < size / 50; i++) desired.add(DnsRecord.builder(RecordType.A).name("new-" + i + "." + SyntheticZone.ZONE_NAME).content("198.51.100." + i % 256));
+    }
+
+    // Diff live records against the desired state, without any API call
+    @Benchmark
+    public ZonePlan plan() {
+        return ZoneSync.plan(current, desired);
+    }
+
+    // Parse result array with the streaming constructor
+    private static List<DnsRecord> parseJson(ObjectMapper mapper, byte[] json) {
+        var result = new ArrayList<DnsRecord>();
+        try (var parser = mapper.createParser(json)) {
+            parser.nextToken(); // Envelope
+            while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                var token = parser.nextToken();
+                if (!parser.currentName().equals("result")) parser.skipChildren();
+                else if (token == JsonToken.START_ARRAY) while (parser.nextToken() == JsonToken.START_OBJECT) result.add(new DnsRecord(parser));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,62 @@
+package de.MCmoderSD.cloudflare.benchmark;
+
+import de.MCmoderSD.cloudflare.core.ZoneSync;
+import de.MCmoderSD.cloudflare.enums.RecordType;
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.List;
+
+// Planning must not touch the proxy flag of records the API marks as not proxiable, run with: java -cp target/benchmarks.jar de.MCmoderSD.cloudflare.benchmark.ZoneSyncProxyTest
+public final class ZoneSyncProxyTest {
+
+    // Constructor
+    private ZoneSyncProxyTest() {
+        // Utility class
+    }
+
+    public static void main(String[] args) {
+        var mapper = new ObjectMapper();
+
+        // A record the API refuses to proxy, e.g. a private address, and a TXT record
+        var unproxiable = new DnsRecord(mapper.readTree(record(1, RecordType.A, "10.0.0.1", false)));
+        var text = new DnsRecord(mapper.readTree(record(2, RecordType.TXT, "v=spf1 -all", false)));
+        var proxiable = new DnsRecord(mapper.readTree(record(3, RecordType.A, "192.0.2.1", true)));
+        var current = List.of(unproxiable, text, proxiable);
+
+        // Desired state differs only in the proxy flag, plus a TTL change on the TXT record
+        var desired = List.of(
+                DnsRecord.builder(RecordType.A).name(unproxiable.getName()).content(unproxiable.getContent()).ttl(300).proxied(true),
+                DnsRecord.builder(RecordType.TXT).name(text.getName()).content(text.getContent()).ttl(600),
+                DnsRecord.builder(RecordType.A).name(proxiable.getName()).content(proxiable.getContent()).ttl(300).proxied(true)
+        );
+        var plan = ZoneSync.plan(current, desired);
+
+        // Only the proxiable record changes its flag, the TXT record only its TTL
+        if (plan.getUnchanged() != 1) throw new IllegalStateException("Expected 1 unchanged record, got " + plan.getUnchanged());
+        if (plan.getUpdates().size() != 2) throw new IllegalStateException("Expected 2 updates, got " + plan.getUpdates().size());
+        for (var update : plan.getUpdates()) {
+            if (update.getId().equals(text.getId()) && (update.isProxyModified() || !update.isTtlModified())) throw new IllegalStateException("TXT record should only change its TTL");
+            if (update.getId().equals(proxiable.getId()) && !update.isProxyModified()) throw new IllegalStateException("Proxiable record should be proxied");
+            if (update.getId().equals(unproxiable.getId())) throw new IllegalStateException("Unproxiable record should be unchanged");
+        }
+        System.out.println("OK");
+    }
+
+    // Build API record
+    private static String record(int index, RecordType type, String content, boolean proxiable) {
+        return "{\"id\":\"" + SyntheticZone.id(index) + "\","
+                + "\"zone_id\":\"" + SyntheticZone.ZONE_ID + "\","
+                + "\"zone_name\":\"" + SyntheticZone.ZONE_NAME + "\","
+                + "\"name\":\"host-" + index + "." + SyntheticZone.ZONE_NAME + "\","
+                + "\"type\":\"" + type + "\","
+                + "\"content\":\"" + content + "\","
+                + "\"proxiable\":" + proxiable + ","
+                + "\"proxied\":false,"
+                + "\"ttl\":300,"
+                + "\"comment\":null,"
+                + "\"tags\":[],"
+                + "\"created_on\":\"2024-05-01T12:34:56.123456Z\","
+                + "\"modified_on\":\"2024-05-02T08:15:30.654321Z\"}";
+    }
+}
@@ -0,0 +1,126 @@
+package de.MCmoderSD.cloudflare.core;
+
+import de.MCmoderSD.cloudflare.objects.BulkResult;
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+import de.MCmoderSD.cloudflare.objects.ModifiedRecord;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static de.MCmoderSD.cloudflare.enums.BulkOperation.*;
+
+final class BatchChunk {
+
+    // Deletes
+    private final List<DnsRecord> deletes = new ArrayList<>();
+    private final List<Integer> deleteIndexes = new ArrayList<>();
+
+    // Updates
+    private final List<ModifiedRecord> updates = new ArrayList<>();
+    private final List<Integer> updateIndexes = new ArrayList<>();
+
+    // Creates
+    private final List<ObjectNode> creates = new ArrayList<>();
+    private final List<Integer> createIndexes = new ArrayList<>();
+
+    // Add changes
+    void delete(int index, DnsRecord record) {
+        deletes.add(record);
+        deleteIndexes.add(index);
+    }
+
+    void update(int index, ModifiedRecord record) {
+        updates.add(record);
+        updateIndexes.add(index);
+    }
+
+    void create(int index, ObjectNode record) {
+        creates.add(record);
+        createIndexes.add(index);
+    }
+
+    int size() {
+        return deletes.size() + updates.size() + creates.size();
+    }
+
+    // Check if the chunk needs a request, unchanged updates are answered locally
+    boolean hasChanges() {
+        return !deletes.isEmpty() || !creates.isEmpty() || updates.stream().anyMatch(ModifiedRecord::isModified);
+    }
+
+    // Write request body straight to bytes
+    byte[] toBytes(ObjectMapper mapper) {
+        var outputStream = new ByteArrayOutputStream(size() * 192 + 64);
+        try (var generator = mapper.createGenerator(outputStream)) {
+            generator.writeStartObject();
+            if (!deletes.isEmpty()) {
+                generator.writeArrayPropertyStart("deletes");
+                for (var record : deletes) {
+                    generator.writeStartObject();
+                    generator.writeStringProperty("id", record.getId());
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+            }
+            if (updates.stream().anyMatch(ModifiedRecord::isModified)) {
+                generator.writeArrayPropertyStart("patches");
+                for (var record : updates) if (record.isModified()) record.writeChanges(generator);
+                generator.writeEndArray();
+            }
+            if (!creates.isEmpty()) {
+                generator.writeArrayPropertyStart("posts");
+                for (var record : creates) generator.writeTree(record);
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        }
+        return outputStream.toByteArray();
+    }
+
+    // Map batch result back to the inputs, the batch is already applied so a short or odd response only affects its items
+    List<BulkResult.Item> succeeded(JsonNode result, int attempts) {
+        var items = new ArrayList<BulkResult.Item>(size());
+        for (var i = 0; i < deletes.size(); i++) items.add(new BulkResult.Item(DELETE, deleteIndexes.get(i), deletes.get(i), attempts, null));
+        var patches = result.path("patches");
+        for (int i = 0, patched = 0; i < updates.size(); i++) {
+            var record = updates.get(i);
+            DnsRecord updated;
+            if (!record.isModified()) updated = new DnsRecord(record);
+            else {
+                updated = parse(patches.get(patched++));
+                if (updated == null) updated = record; // Submitted state
+            }
+            items.add(new BulkResult.Item(UPDATE, updateIndexes.get(i), updated, attempts, null));
+        }
+        var posts = result.path("posts");
+        for (var i = 0; i < creates.size(); i++) {
+            var created = parse(posts.get(i));
+            var error = created == null ? new RuntimeException("Batch was applied but the response does not contain the created record") : null;
+            items.add(new BulkResult.Item(CREATE, createIndexes.get(i), created, attempts, error));
+        }
+        return items;
+    }
+
+    // Read record of a batch result, null if it is missing or invalid
+    private static DnsRecord parse(JsonNode record) {
+        if (record == null || !record.isObject()) return null;
+        try {
+            return new DnsRecord(record);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // Mark every input as failed, the batch is rolled back as a whole
+    List<BulkResult.Item> failed(Throwable error, int attempts) {
+        var items = new ArrayList<BulkResult.Item>(size());
+        for (var i = 0; i < deletes.size(); i++) items.add(new BulkResult.Item(DELETE, deleteIndexes.get(i), deletes.get(i), attempts, error));
+        for (var i = 0; i < updates.size(); i++) items.add(new BulkResult.Item(UPDATE, updateIndexes.get(i), updates.get(i), attempts, error));
+        for (var i = 0; i < creates.size(); i++) items.add(new BulkResult.Item(CREATE, createIndexes.get(i), null, attempts, error));
+        return items;
+    }
+}
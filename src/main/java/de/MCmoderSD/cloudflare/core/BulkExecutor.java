@@ -0,0 +1,144 @@
+package de.MCmoderSD.cloudflare.core;
+
+import de.MCmoderSD.cloudflare.enums.BulkOperation;
+import de.MCmoderSD.cloudflare.exceptions.RateLimitException;
+import de.MCmoderSD.cloudflare.objects.BulkResult;
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.CompletableFuture.failedFuture;
+
+final class BulkExecutor {
+
+    // Constants
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    // Attributes
+    private final RateLimiter rateLimiter;
+    private final Deadline deadline;
+    private final List<Task> tasks;
+
+    // State
+    private final AtomicInteger cursor;
+    private final AtomicInteger lanes;
+    private final CompletableFuture<BulkResult> result;
+    private BulkResult.Item[] items;
+    private long start;
+
+    // Constructor
+    BulkExecutor(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        deadline = Deadline.current(); // Lanes continue on callback threads, so the caller's deadline is carried along
+        tasks = new ArrayList<>();
+        cursor = new AtomicInteger();
+        lanes = new AtomicInteger();
+        result = new CompletableFuture<>();
+    }
+
+    // Queue operation
+    BulkExecutor add(BulkOperation operation, int index, Function<AtomicInteger, CompletableFuture<DnsRecord>> call) {
+        tasks.add(new Task(operation, index, call, null));
+        return this;
+    }
+
+    // Record operation answered without a request, it never occupies a lane
+    BulkExecutor addCompleted(BulkOperation operation, int index, DnsRecord record) {
+        tasks.add(new Task(operation, index, null, record));
+        return this;
+    }
+
+    // Run queued operations with at most the given number in flight
+    CompletableFuture<BulkResult> run(int concurrency) {
+
+        // Check state
+        if (concurrency < 1) throw new IllegalArgumentException("Concurrency must be at least 1");
+        if (items != null) throw new IllegalStateException("Bulk operations have already been started");
+
+        // Fill in operations answered locally
+        items = new BulkResult.Item[tasks.size()];
+        start = System.nanoTime();
+        var pending = 0;
+        for (var i = 0; i < tasks.size(); i++) {
+            var task = tasks.get(i);
+            if (task.call == null) items[i] = new BulkResult.Item(task.operation, task.index, task.record, 0, null);
+            else pending++;
+        }
+
+        // Start lanes
+        var laneCount = Math.min(concurrency, pending);
+        lanes.set(laneCount);
+        if (laneCount == 0) finish();
+        for (var i = 0; i < laneCount; i++) next();
+        return result;
+    }
+
+    // Take the next task for this lane
+    private void next() {
+
+        // Check for remaining tasks, skipping those answered locally
+        var position = cursor.getAndIncrement();
+        while (position < tasks.size() && tasks.get(position).call == null) position = cursor.getAndIncrement();
+        if (position >= tasks.size()) {
+            if (lanes.decrementAndGet() == 0) finish();
+            return;
+        }
+
+        // Run task and record result
+        var index = position;
+        var task = tasks.get(index);
+        var attempts = new AtomicInteger();
+        execute(rateLimiter, deadline, () -> task.call.apply(attempts)).whenComplete((record, throwable) -> {
+            items[index] = new BulkResult.Item(task.operation, task.index, record, attempts.get(), Transport.unwrap(throwable));
+            next();
+        });
+    }
+
+    // Run call with the caller's deadline, the transport takes a rate limit permit for every request and retries single requests
+    static <T> CompletableFuture<T> execute(RateLimiter rateLimiter, Deadline deadline, Supplier<CompletableFuture<T>> call) {
+
+        // Send requests and hold back the other lanes if the API still rejects them
+        return Deadline.with(deadline, () -> start(call)).whenComplete((value, throwable) -> {
+            if (Transport.unwrap(throwable) instanceof RateLimitException rateLimitException) rateLimiter.pause(rateLimitException.getRetryAfter() == null ? DEFAULT_RETRY_AFTER : rateLimitException.getRetryAfter());
+        });
+    }
+
+    // Start call without letting synchronous failures escape
+    private static <T> CompletableFuture<T> start(Supplier<CompletableFuture<T>> call) {
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+    }
+
+    // Complete result
+    private void finish() {
+        result.complete(new BulkResult(Arrays.asList(items), Duration.ofNanos(System.nanoTime() - start)));
+    }
+
+    // Task class
+    private static final class Task {
+
+        // Attributes
+        private final BulkOperation operation;
+        private final int index;
+        private final Function<AtomicInteger, CompletableFuture<DnsRecord>> call;
+        private final DnsRecord record;
+
+        // Constructor
+        private Task(BulkOperation operation, int index, Function<AtomicInteger, CompletableFuture<DnsRecord>> call, DnsRecord record) {
+            this.operation = operation;
+            this.index = index;
+            this.call = call;
+            this.record = record;
+        }
+    }
+}
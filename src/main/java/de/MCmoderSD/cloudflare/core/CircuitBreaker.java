@@ -0,0 +1,116 @@
+package de.MCmoderSD.cloudflare.core;
+
+import de.MCmoderSD.cloudflare.enums.CircuitState;
+
+import java.time.Duration;
+
+@SuppressWarnings("unused")
+public class CircuitBreaker {
+
+    // Defaults
+    public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+    // Attributes
+    private final int failureThreshold;
+    private final long openDuration;
+
+    // State
+    private CircuitState state;
+    private int failures;
+    private long openUntil;
+    private boolean trialInFlight;
+
+    // Statistics
+    private long opened;
+    private long rejected;
+
+    // Constructors
+    public CircuitBreaker() {
+        this(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_DURATION);
+    }
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+
+        // Check parameters
+        if (failureThreshold < 1) throw new IllegalArgumentException("Failure threshold must be at least 1");
+        if (openDuration == null || openDuration.isNegative()) throw new IllegalArgumentException("Open duration cannot be null or negative");
+
+        // Set attributes
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration.toNanos();
+        state = CircuitState.CLOSED;
+    }
+
+    // Check if a request may be sent
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED -> {
+                return true;
+            }
+            case OPEN -> {
+                if (System.nanoTime() - openUntil < 0) break;
+                state = CircuitState.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            }
+            case HALF_OPEN -> {
+                if (trialInFlight) break;
+                trialInFlight = true;
+                return true;
+            }
+        }
+        rejected++;
+        return false;
+    }
+
+    // Report a response from a healthy API
+    public synchronized void onSuccess() {
+        state = CircuitState.CLOSED;
+        failures = 0;
+        trialInFlight = false;
+    }
+
+    // Report a server error, timeout or connection failure
+    public synchronized void onFailure() {
+        trialInFlight = false;
+        if (state == CircuitState.HALF_OPEN || ++failures >= failureThreshold) open();
+    }
+
+    // Close the circuit and forget failures
+    public synchronized void reset() {
+        onSuccess();
+    }
+
+    private void open() {
+        state = CircuitState.OPEN;
+        openUntil = System.nanoTime() + openDuration;
+        failures = 0;
+        opened++;
+    }
+
+    // Getters
+    public synchronized CircuitState getState() {
+        return state;
+    }
+
+    public synchronized Duration getRemainingOpen() {
+        return state == CircuitState.OPEN ? Duration.ofNanos(Math.max(0, openUntil - System.nanoTime())) : Duration.ZERO;
+    }
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    public Duration getOpenDuration() {
+        return Duration.ofNanos(openDuration);
+    }
+
+    public synchronized long getOpenedCount() {
+        return opened;
+    }
+
+    public synchronized long getRejectedCount() {
+        return rejected;
+    }
+}
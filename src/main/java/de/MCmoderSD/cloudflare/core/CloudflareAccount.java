@@ -0,0 +1,181 @@
+package de.MCmoderSD.cloudflare.core;
+
+import de.MCmoderSD.cloudflare.enums.ApiOperation;
+import tools.jackson.databind.JsonNode;
+
+import java.net.URISyntaxException;
+import java.net.URLEncoder;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+
+@SuppressWarnings({"unused", "UnusedReturnValue"})
+public class CloudflareAccount {
+
+    // Pagination
+    private static final int ZONE_PAGE_SIZE = 50;
+
+    // Shared attributes
+    private final Transport transport;
+
+    // Caches
+    private final ConcurrentHashMap<String, CompletableFuture<String>> zoneIds;
+    private final ConcurrentHashMap<String, CloudflareClient> zones;
+
+    // Constructors
+    public CloudflareAccount(String apiToken) {
+        this(new Builder(apiToken).buildTransport());
+    }
+
+    private CloudflareAccount(Transport transport) {
+
+        // Set shared attributes
+        this.transport = transport;
+
+        // Initialize caches
+        zoneIds = new ConcurrentHashMap<>();
+        zones = new ConcurrentHashMap<>();
+    }
+
+    // Static builder method
+    public static Builder builder(String apiToken) {
+        return new Builder(apiToken);
+    }
+
+    // Builder class
+    public static class Builder extends TransportBuilder<Builder> {
+
+        // Constructor
+        protected Builder(String apiToken) {
+            super(apiToken);
+        }
+
+        // Build account
+        public CloudflareAccount build() {
+            return new CloudflareAccount(buildTransport());
+        }
+    }
+
+    // Get zone view by name
+    public CloudflareClient zone(String zoneName) {
+        return zoneById(resolveZoneId(zoneName));
+    }
+
+    // Get zone view by ID, views share this account's connection pool, mapper and rate limit
+    public CloudflareClient zoneById(String zoneId) {
+        if (zoneId == null || zoneId.isBlank() || zoneId.contains(" ")) throw new IllegalArgumentException("Zone ID is invalid");
+        return zones.computeIfAbsent(zoneId, id -> new CloudflareClient(id, transport));
+    }
+
+    // Resolve Zone ID
+    public String resolveZoneId(String zoneName) {
+        return CloudflareClient.await(resolveZoneIdAsync(zoneName), "Failed to resolve zone ID");
+    }
+
+    public CompletableFuture<String> resolveZoneIdAsync(String zoneName) {
+
+        // Check zone name
+        if (zoneName == null || zoneName.isBlank() || zoneName.contains(" ")) throw new IllegalArgumentException("Zone name is invalid");
+
+        // Resolve once, failed lookups are retried on the next call
+        var key = zoneName.toLowerCase(Locale.ROOT);
+        var future = zoneIds.computeIfAbsent(key, name -> Deadline.with(null, () -> lookupZoneId(name))); // Shared lookup must not inherit one caller's deadline
+        future.whenComplete((id, throwable) -> {
+            if (throwable != null) zoneIds.remove(key, future);
+        });
+        return future.copy(); // Cancelling one caller's future, e.g. on a deadline, must not cancel the shared lookup
+    }
+
+    // Look up Zone ID
+    private CompletableFuture<String> lookupZoneId(String zoneName) {
+        return sendRequest("?name=" + URLEncoder.encode(zoneName, UTF_8), null).thenApply(result -> {
+            for (var zone : result) if (zone.path("name").asString().equalsIgnoreCase(zoneName)) return zone.get("id").asString();
+            throw new IllegalArgumentException("Zone not found: " + zoneName);
+        });
+    }
+
+    // Get Zones
+    public HashMap<String, String> getZones() {
+        return CloudflareClient.await(getZonesAsync(), "Failed to get zones");
+    }
+
+    public CompletableFuture<HashMap<String, String>> getZonesAsync() {
+        return collectZones(1, new HashMap<>());
+    }
+
+    // Collect remaining zone pages
+    private CompletableFuture<HashMap<String, String>> collectZones(int page, HashMap<String, String> zones) {
+        var totalPages = new int[1];
+        return sendRequest("?page=" + page + "&per_page=" + ZONE_PAGE_SIZE, info -> totalPages[0] = info.path("total_pages").asInt()).thenCompose(result -> {
+
+            // Add zones and fill the resolution cache
+            for (var zone : result) {
+                var name = zone.get("name").asString();
+                var id = zone.get("id").asString();
+                zones.put(name, id);
+                zoneIds.putIfAbsent(name.toLowerCase(Locale.ROOT), completedFuture(id));
+            }
+
+            // Check for more pages
+            var hasNext = totalPages[0] > 0 ? page < totalPages[0] : result.size() == ZONE_PAGE_SIZE;
+            return hasNext ? collectZones(page + 1, zones) : completedFuture(zones);
+        });
+    }
+
+    // Send Request
+    private CompletableFuture<JsonNode> sendRequest(String query, Consumer<JsonNode> resultInfo) {
+        try {
+
+            // Create request
+            var request = transport.newRequest("zones" + query)
+                    .GET()
+                    .build();
+
+            // Send request
+            return transport.send(ApiOperation.ZONES, request, httpResponse -> {
+
+                // Check response
+                transport.check(httpResponse);
+                var result = ResponseReader.read(transport.mapper, httpResponse.body(), ResponseReader.TREE, resultInfo);
+                if (!result.isArray()) throw new RuntimeException("Response body does not contain result array");
+
+                // Return result
+                return result;
+            });
+
+        } catch (URISyntaxException e) {
+            return failedFuture(new RuntimeException("Failed to get zones", e));
+        }
+    }
+
+    // Getters
+    public RateLimiter getRateLimiter() {
+        return transport.rateLimiter;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return transport.retryPolicy;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return transport.circuitBreaker;
+    }
+
+    public long getRetryCount() {
+        return transport.getRetries();
+    }
+
+    public long getFailureCount() {
+        return transport.getFailures();
+    }
+
+    public int getCachedZones() {
+        return zones.size();
+    }
+}
@@ -1,191 +1,892 @@
 package de.MCmoderSD.cloudflare.core;
 
+import de.MCmoderSD.cloudflare.enums.ApiOperation;
+import de.MCmoderSD.cloudflare.enums.RecordType;
+import de.MCmoderSD.cloudflare.enums.VerificationPolicy;
+import de.MCmoderSD.cloudflare.exceptions.DeadlineExceededException;
+import de.MCmoderSD.cloudflare.exceptions.RequestCancelledException;
+import de.MCmoderSD.cloudflare.metrics.ApiMetrics;
+import de.MCmoderSD.cloudflare.objects.BulkResult;
 import de.MCmoderSD.cloudflare.objects.DnsRecord;
+import de.MCmoderSD.cloudflare.objects.ImportResult;
 import de.MCmoderSD.cloudflare.objects.ModifiedRecord;
+import tools.jackson.core.JsonParser;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.node.ObjectNode;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.net.URI;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static de.MCmoderSD.cloudflare.enums.BulkOperation.*;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 @SuppressWarnings({"unused", "UnusedReturnValue"})
 public class CloudflareClient {
 
-    // Endpoint URLs
-    private static final String BASE_URL = "https://api.cloudflare.com/client/v4/zones/";
+    // Pagination
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MIN_PAGE_SIZE = 5;
+    public static final int MAX_PAGE_SIZE = 5000000;
+    public static final int DEFAULT_READ_PAGE_SIZE = 5000; // Full-zone reads, 100k records in 20 requests
+
+    // Bulk operations
+    public static final int DEFAULT_BULK_CONCURRENCY = 8;
+    public static final int DEFAULT_RATE_LIMIT = 1200; // Requests per 5 minutes
+    public static final int DEFAULT_BATCH_SIZE = 200; // Changes per batch request on the free plan
 
     // Credentials
     private final String zoneId;
 
     // Attributes
+    private final Transport transport;
     private final HttpClient client;
     private final ObjectMapper mapper;
-    private final HttpRequest.Builder requestBuilder;
 
-    // Constructor
+    // Settings
+    private volatile VerificationPolicy verificationPolicy;
+    private volatile RateLimiter rateLimiter;
+    private volatile int bulkConcurrency;
+    private volatile int batchSize;
+    private volatile int readPageSize;
+    private volatile Duration coalescingWindow;
+
+    // Shared full-zone reads
+    private final SingleFlight<HashSet<DnsRecord>> recordsFlight;
+
+    // Last-known records of upserted hosts
+    private volatile DynamicDns dynamicDns; // Created on first use, so the constructor does not leak this
+
+    // Constructors
     public CloudflareClient(String zoneId, String apiToken) {
+        this(zoneId, new Builder(zoneId, apiToken).buildTransport());
+    }
+
+    CloudflareClient(String zoneId, Transport transport) {
 
-        // Check credentials
+        // Check Zone ID
         if (zoneId == null || zoneId.isBlank() || zoneId.contains(" ")) throw new IllegalArgumentException("Zone ID is invalid");
-        if (apiToken == null || apiToken.isBlank() || apiToken.contains(" ")) throw new IllegalArgumentException("API Token is invalid");
 
         // Set Zone ID
         this.zoneId = zoneId;
 
-        // Initialize Attributes
-        mapper = new ObjectMapper();
-        client = HttpClient.newHttpClient();
+        // Set shared attributes
+        this.transport = transport;
+        client = transport.client;
+        mapper = transport.mapper;
+        rateLimiter = transport.rateLimiter;
+
+        // Default settings
+        verificationPolicy = VerificationPolicy.SINGLE_GET;
+        bulkConcurrency = DEFAULT_BULK_CONCURRENCY;
+        batchSize = DEFAULT_BATCH_SIZE;
+        readPageSize = DEFAULT_READ_PAGE_SIZE;
+        coalescingWindow = Duration.ZERO;
+        recordsFlight = new SingleFlight<>();
+    }
+
+    // Static builder method
+    public static Builder builder(String zoneId, String apiToken) {
+        return new Builder(zoneId, apiToken);
+    }
+
+    // Builder class
+    public static class Builder extends TransportBuilder<Builder> {
+
+        // Required attributes
+        private final String zoneId;
+
+        // Constructor
+        protected Builder(String zoneId, String apiToken) {
+            super(apiToken);
+            this.zoneId = zoneId;
+        }
+
+        // Build client
+        public CloudflareClient build() {
+            return new CloudflareClient(zoneId, buildTransport());
+        }
+    }
+
+    // Build authorization header
+    static String authorization(String apiToken) {
+        if (apiToken == null || apiToken.isBlank() || apiToken.contains(" ")) throw new IllegalArgumentException("API Token is invalid");
+        return "Bearer " + apiToken;
+    }
 
-        // Initialize Request Builder
-        requestBuilder = HttpRequest.newBuilder()
-                .header("Authorization", "Bearer " + apiToken)
-                .header("Content-Type", "application/json");
+    // Create Request
+    private HttpRequest.Builder newRequest(String path) throws URISyntaxException {
+        return transport.newRequest("zones/" + zoneId + path);
     }
 
     // Send Request
-    private JsonNode sendRequest(HttpRequest request) throws IOException, InterruptedException {
+    private <T> CompletableFuture<T> sendRequest(ApiOperation operation, HttpRequest request, Function<JsonParser, T> resultReader) {
+        return sendRequest(operation, request, resultReader, new AtomicInteger());
+    }
+
+    private <T> CompletableFuture<T> sendRequest(ApiOperation operation, HttpRequest request, Function<JsonParser, T> resultReader, AtomicInteger attempts) {
 
         // Check request
         if (request == null) throw new IllegalArgumentException("Request cannot be null");
 
-        // Send request
-        var httpResponse = client.send(request, HttpResponse.BodyHandlers.ofString());
+        // Send request and bind the result as the body arrives
+        return send(operation, request, httpResponse -> {
+            transport.check(httpResponse);
+            return ResponseReader.read(mapper, httpResponse.body(), resultReader);
+        }, attempts);
+    }
+
+    // Send request through the transport, every attempt takes a permit from this client's rate limiter
+    private <T> CompletableFuture<T> send(ApiOperation operation, HttpRequest request, Function<HttpResponse<InputStream>, T> handler) {
+        return send(operation, request, handler, new AtomicInteger());
+    }
+
+    private <T> CompletableFuture<T> send(ApiOperation operation, HttpRequest request, Function<HttpResponse<InputStream>, T> handler, AtomicInteger attempts) {
+        return transport.send(operation, request, handler, attempts, rateLimiter);
+    }
+
+    // Send request that changes records, later zone reads must not join a read started before it
+    private <T> CompletableFuture<T> sendChange(ApiOperation operation, HttpRequest request, Function<JsonParser, T> resultReader) {
+        return sendChange(operation, request, resultReader, new AtomicInteger());
+    }
+
+    private <T> CompletableFuture<T> sendChange(ApiOperation operation, HttpRequest request, Function<JsonParser, T> resultReader, AtomicInteger attempts) {
+        return sendRequest(operation, request, resultReader, attempts).whenComplete((result, throwable) -> recordsFlight.invalidate());
+    }
+
+    // Wait for result, bounded by the deadline of the current thread
+    static <T> T await(CompletableFuture<T> future, String message) {
+        var deadline = Deadline.current();
+        try {
+            return deadline == null ? future.get() : future.get(deadline.remainingNanos(), NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new RuntimeException(message, e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new DeadlineExceededException(message);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RequestCancelledException(message, e);
+        }
+    }
+
+    // Get Zone ID
+    public String getZoneId() {
+        return zoneId;
+    }
+
+    // Get Verification Policy
+    public VerificationPolicy getVerificationPolicy() {
+        return verificationPolicy;
+    }
+
+    // Set Verification Policy
+    public CloudflareClient setVerificationPolicy(VerificationPolicy verificationPolicy) {
+        if (verificationPolicy == null) throw new IllegalArgumentException("Verification policy cannot be null");
+        this.verificationPolicy = verificationPolicy;
+        return this;
+    }
+
+    // Get Coalescing Window
+    public Duration getCoalescingWindow() {
+        return coalescingWindow;
+    }
+
+    // Set how long a finished full-zone read is reused, zero only shares reads that are still running
+    public CloudflareClient setCoalescingWindow(Duration coalescingWindow) {
+        if (coalescingWindow == null || coalescingWindow.isNegative()) throw new IllegalArgumentException("Coalescing window cannot be null or negative");
+        this.coalescingWindow = coalescingWindow;
+        return this;
+    }
 
-        // Check response
-        if (httpResponse == null) throw new RuntimeException("HTTP response is null");
-        if (httpResponse.statusCode() != 200) throw new RuntimeException("Failed : HTTP error code : " + httpResponse.statusCode());
-        var body = httpResponse.body();
-        if (body == null) throw new RuntimeException("Response body is null");
-        if (body.isBlank()) throw new RuntimeException("Response body is empty");
+    // Get Dynamic DNS state used by upsertContent, e.g. to set a debounce
+    public DynamicDns getDynamicDns() {
+        var current = dynamicDns;
+        if (current != null) return current;
+        synchronized (this) {
+            if (dynamicDns == null) dynamicDns = new DynamicDns(this);
+            return dynamicDns;
+        }
+    }
+
+    // Get Rate Limiter
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    // Set Rate Limiter
+    public CloudflareClient setRateLimiter(RateLimiter rateLimiter) {
+        if (rateLimiter == null) throw new IllegalArgumentException("Rate limiter cannot be null");
+        this.rateLimiter = rateLimiter;
+        return this;
+    }
+
+    // Get Retry Policy
+    public RetryPolicy getRetryPolicy() {
+        return transport.retryPolicy;
+    }
 
-        // Parse response
-        var response = mapper.readTree(body);
-        if (response == null) throw new RuntimeException("Response body is null");
-        if (response.isEmpty()) throw new RuntimeException("Response body is empty");
-        if (!response.has("result") || response.get("result").isEmpty()) throw new RuntimeException("Response body does not contain result");
-        if (!response.has("success") || !response.get("success").asBoolean()) throw new RuntimeException("Response body indicates failure");
+    // Get Circuit Breaker
+    public CircuitBreaker getCircuitBreaker() {
+        return transport.circuitBreaker;
+    }
+
+    // Get Metrics
+    public ApiMetrics getMetrics() {
+        return transport.metrics;
+    }
+
+    // Get number of retried attempts, shared with clients of the same account
+    public long getRetryCount() {
+        return transport.getRetries();
+    }
+
+    // Get number of requests that failed after all attempts
+    public long getFailureCount() {
+        return transport.getFailures();
+    }
 
-        // Return response
-        return response;
+    // Get Bulk Concurrency
+    public int getBulkConcurrency() {
+        return bulkConcurrency;
+    }
+
+    // Set Bulk Concurrency
+    public CloudflareClient setBulkConcurrency(int bulkConcurrency) {
+        if (bulkConcurrency < 1) throw new IllegalArgumentException("Bulk concurrency must be at least 1");
+        this.bulkConcurrency = bulkConcurrency;
+        return this;
+    }
+
+    // Get Batch Size
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    // Set Batch Size
+    public CloudflareClient setBatchSize(int batchSize) {
+        if (batchSize < 1) throw new IllegalArgumentException("Batch size must be at least 1");
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    // Get Read Page Size
+    public int getReadPageSize() {
+        return readPageSize;
+    }
+
+    // Set page size of full-zone reads, larger pages need fewer rate-limited requests
+    public CloudflareClient setReadPageSize(int readPageSize) {
+        checkPageSize(readPageSize);
+        this.readPageSize = readPageSize;
+        return this;
+    }
+
+    // Get Record
+    public DnsRecord getRecord(String id) {
+        return await(getRecordAsync(id), "Failed to get DNS record");
+    }
+
+    public CompletableFuture<DnsRecord> getRecordAsync(String id) {
+
+        // Check id
+        if (id == null || id.isBlank()) throw new IllegalArgumentException("Record ID cannot be null or blank");
+
+        try {
+
+            // Create request
+            var request = newRequest("/dns_records/" + id)
+                    .GET()
+                    .build();
+
+            // Send request
+            return sendRequest(ApiOperation.GET, request, ResponseReader.RECORD);
+
+        } catch (URISyntaxException e) {
+            return failedFuture(new RuntimeException("Failed to get DNS record", e));
+        }
+    }
+
+    // Check if record exists
+    private CompletableFuture<Boolean> recordExistsAsync(String id) {
+        try {
+
+            // Create request
+            var request = newRequest("/dns_records/" + id)
+                    .GET()
+                    .build();
+
+            // Send request
+            return send(ApiOperation.GET, request, httpResponse -> {
+                if (httpResponse.statusCode() == 404) {
+                    Transport.discard(httpResponse.body());
+                    return false;
+                }
+                transport.check(httpResponse);
+                Transport.discard(httpResponse.body());
+                return true;
+            });
+
+        } catch (URISyntaxException e) {
+            return failedFuture(new RuntimeException("Failed to get DNS record", e));
+        }
     }
 
     // Get Record Map
     public HashMap<String, DnsRecord> getRecordMap() {
-        var recordMap = new HashMap<String, DnsRecord>();
-        for (var record : getRecords()) recordMap.put(record.getId(), record);
-        return recordMap;
+        return await(getRecordMapAsync(), "Failed to get DNS records");
+    }
+
+    public CompletableFuture<HashMap<String, DnsRecord>> getRecordMapAsync() {
+        return sharedRecordsAsync().thenApply(records -> {
+            var recordMap = new HashMap<String, DnsRecord>();
+            for (var record : records) recordMap.put(record.getId(), record);
+            return recordMap;
+        });
     }
 
     // Get Records
     public HashSet<DnsRecord> getRecords() {
+        return await(getRecordsAsync(), "Failed to get DNS records");
+    }
+
+    public CompletableFuture<HashSet<DnsRecord>> getRecordsAsync() {
+        return sharedRecordsAsync().thenApply(HashSet::new);
+    }
+
+    // Concurrent callers share one zone read, each gets its own copy of the result
+    private CompletableFuture<HashSet<DnsRecord>> sharedRecordsAsync() {
+        return recordsFlight.run(coalescingWindow.toNanos(), () -> Deadline.with(null, () -> collectPages("", 1, readPageSize, new HashSet<>()))); // Shared read must not inherit one caller's deadline
+    }
+
+    // Query Records with server-side filters
+    public RecordQuery query() {
+        return new RecordQuery(this);
+    }
+
+    // Collect remaining pages
+    <C extends Collection<DnsRecord>> CompletableFuture<C> collectPages(String filter, int page, int perPage, C records) {
+        return collectPages(filter, page, perPage, records, Integer.MAX_VALUE);
+    }
+
+    // Collect remaining pages, stopping as soon as more than the limit have been read
+    <C extends Collection<DnsRecord>> CompletableFuture<C> collectPages(String filter, int page, int perPage, C records, int limit) {
+        return fetchPage(filter, page, perPage).thenCompose(recordPage -> {
+            records.addAll(recordPage.getRecords());
+            if (records.size() > limit) return failedFuture(new IllegalStateException("Zone " + zoneId + " exceeds " + limit + " records"));
+            return recordPage.hasNext(page, perPage) ? collectPages(filter, page + 1, perPage, records, limit) : completedFuture(records);
+        });
+    }
+
+    // Iterate Records page by page
+    public Iterator<DnsRecord> iterateRecords() {
+        return iterateRecords(DEFAULT_PAGE_SIZE);
+    }
+
+    public Iterator<DnsRecord> iterateRecords(int perPage) {
+        checkPageSize(perPage);
+        return new RecordIterator(this, "", perPage);
+    }
+
+    // Stream Records page by page
+    public Stream<DnsRecord> streamRecords() {
+        return streamRecords(DEFAULT_PAGE_SIZE);
+    }
+
+    public Stream<DnsRecord> streamRecords(int perPage) {
+        checkPageSize(perPage);
+        return streamPages("", perPage);
+    }
+
+    // Stream filtered pages, closing the stream cancels the prefetched page
+    Stream<DnsRecord> streamPages(String filter, int perPage) {
+        var iterator = new RecordIterator(this, filter, perPage);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(iterator::close);
+    }
+
+    // Consume Records page by page
+    public void forEachRecord(Consumer<DnsRecord> consumer) {
+        forEachRecord(DEFAULT_PAGE_SIZE, consumer);
+    }
+
+    public void forEachRecord(int perPage, Consumer<DnsRecord> consumer) {
+        if (consumer == null) throw new IllegalArgumentException("Consumer cannot be null");
+        iterateRecords(perPage).forEachRemaining(consumer);
+    }
+
+    // Scan Records through one reusable view over the raw pages, nothing is allocated per record unless the view is materialized
+    public void scanRecords(Consumer<RecordView> consumer) {
+        scanRecords(DEFAULT_PAGE_SIZE, consumer);
+    }
+
+    public void scanRecords(int perPage, Consumer<RecordView> consumer) {
+        checkPageSize(perPage);
+        scanPages("", perPage, consumer);
+    }
+
+    // Scan filtered pages, the next page is read into the second view while the first one is consumed
+    void scanPages(String filter, int perPage, Consumer<RecordView> consumer) {
+        if (consumer == null) throw new IllegalArgumentException("Consumer cannot be null");
+        var views = new RecordView[] {new RecordView(mapper), new RecordView(mapper)};
+        var next = fetchView(filter, 1, perPage, views[0]);
+        for (var page = 1; next != null; page++) {
+            var view = await(next, "Failed to scan DNS records");
+            next = view.hasNext(page, perPage) ? fetchView(filter, page + 1, perPage, views[page % 2]) : null;
+            try {
+                while (view.advance()) consumer.accept(view);
+            } catch (RuntimeException e) {
+                if (next != null) next.cancel(true);
+                throw e;
+            }
+        }
+    }
+
+    // Fetch Page into a view
+    private CompletableFuture<RecordView> fetchView(String filter, int page, int perPage, RecordView view) {
         try {
 
             // Create request
-            var request = requestBuilder
-                    .uri(new URI(BASE_URL + zoneId + "/dns_records"))
+            var request = newRequest("/dns_records?page=" + page + "&per_page=" + perPage + filter)
                     .GET()
                     .build();
 
-            // Send request
-            var response = sendRequest(request);
+            // Send request and index the raw page
+            return send(ApiOperation.LIST, request, httpResponse -> {
+                transport.check(httpResponse);
+                view.read(httpResponse.body(), httpResponse.headers().firstValueAsLong("Content-Length").orElse(-1));
+                return view;
+            });
+
+        } catch (URISyntaxException e) {
+            return failedFuture(new RuntimeException("Failed to scan DNS records", e));
+        }
+    }
 
-            // Check Result
-            if (!response.get("result").isArray()) throw new RuntimeException("Response body does not contain result array");
+    // Fetch Page
+    CompletableFuture<RecordPage> fetchPage(String filter, int page, int perPage) {
+        try {
+
+            // Create request
+            var request = newRequest("/dns_records?page=" + page + "&per_page=" + perPage + filter)
+                    .GET()
+                    .build();
 
-            // Convert to set of Records
-            var dnsRecords = new HashSet<DnsRecord>();
-            var result = response.get("result");
-            for (var record : result) dnsRecords.add(new DnsRecord(record));
-            return dnsRecords;
+            // Send request and parse the page as it arrives
+            return send(ApiOperation.LIST, request, httpResponse -> {
+                transport.check(httpResponse);
+                return RecordPage.read(mapper, httpResponse.body());
+            });
 
-        } catch (URISyntaxException | IOException | InterruptedException e) {
-            throw new RuntimeException("Failed to get DNS records", e);
+        } catch (URISyntaxException e) {
+            return failedFuture(new RuntimeException("Failed to get DNS records", e));
         }
     }
 
-    // Update Record
-    public boolean updateRecord(ModifiedRecord modifiedRecord) {
+    // Check page size
+    static void checkPageSize(int perPage) {
+        if (perPage < MIN_PAGE_SIZE) throw new IllegalArgumentException("Page size must be at least " + MIN_PAGE_SIZE);
+        if (perPage > MAX_PAGE_SIZE) throw new IllegalArgumentException("Page size cannot be greater than " + MAX_PAGE_SIZE);
+    }
+
+    // Export Records as BIND zone file, replacing the target once the export is complete
+    public long exportRecords(Path path) {
+        if (path == null) throw new IllegalArgumentException("Path cannot be null");
         try {
+            var temporary = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+            try {
+                long bytes;
+                try (var outputStream = Files.newOutputStream(temporary)) {
+                    bytes = exportRecords(outputStream);
+                }
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                return bytes;
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write zone file", e);
+        }
+    }
 
-            // Check record
-            if (modifiedRecord == null) throw new IllegalArgumentException("Modified record cannot be null");
+    public long exportRecords(OutputStream outputStream) {
+        return await(exportRecordsAsync(outputStream), "Failed to export DNS records");
+    }
+
+    // Stream export into the output stream as it arrives, the stream is not closed
+    public CompletableFuture<Long> exportRecordsAsync(OutputStream outputStream) {
+
+        // Check output stream
+        if (outputStream == null) throw new IllegalArgumentException("Output stream cannot be null");
+
+        try {
 
             // Create request
-            var request = requestBuilder
-                    .uri(new URI(BASE_URL + zoneId + "/dns_records/" + modifiedRecord.getId()))
-                    .PUT(HttpRequest.BodyPublishers.ofString(modifiedRecord.getModifiedContent().toString()))
+            var request = newRequest("/dns_records/export")
+                    .GET()
+                    .build();
+
+            // Send request, copy failures are not retried since output may already be written
+            return send(ApiOperation.EXPORT, request, httpResponse -> {
+                transport.check(httpResponse);
+                try (var body = httpResponse.body()) {
+                    return body.transferTo(outputStream);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to copy zone file", e);
+                }
+            });
+
+        } catch (URISyntaxException e) {
+            return failedFuture(new RuntimeException("Failed to export DNS records", e));
+        }
+    }
+
+    // Import Records from BIND zone file
+    public ImportResult importRecords(Path path) {
+        return importRecords(path, false);
+    }
+
+    public ImportResult importRecords(Path path, boolean proxied) {
+        return await(importRecordsAsync(path, proxied), "Failed to import DNS records");
+    }
+
+    // Upload file as multipart form, streamed from disk and re-read on retry
+    public CompletableFuture<ImportResult> importRecordsAsync(Path path, boolean proxied) {
+
+        // Check path
+        if (path == null) throw new IllegalArgumentException("Path cannot be null");
+
+        try {
+
+            // Build multipart body around the file
+            var boundary = "----CloudflareZoneFile" + UUID.randomUUID().toString().replace("-", "");
+            var head = "--" + boundary + "\r\n"
+                    + "Content-Disposition: form-data; name=\"proxied\"\r\n\r\n"
+                    + proxied + "\r\n"
+                    + "--" + boundary + "\r\n"
+                    + "Content-Disposition: form-data; name=\"file\"; filename=\"" + path.getFileName().toString().replace("\"", "") + "\"\r\n"
+                    + "Content-Type: text/plain\r\n\r\n";
+            var tail = "\r\n--" + boundary + "--\r\n";
+            var body = HttpRequest.BodyPublishers.concat(
+                    HttpRequest.BodyPublishers.ofString(head),
+                    HttpRequest.BodyPublishers.ofFile(path),
+                    HttpRequest.BodyPublishers.ofString(tail));
+
+            // Create request
+            var request = newRequest("/dns_records/import")
+                    .setHeader("Content-Type", "multipart/form-data; boundary=" + boundary)
+                    .POST(body)
                     .build();
 
             // Send request
-            var response = new DnsRecord(sendRequest(request).get("result"));
+            return sendChange(ApiOperation.IMPORT, request, ResponseReader.TREE).thenApply(ImportResult::new);
+
+        } catch (FileNotFoundException e) {
+            throw new IllegalArgumentException("Zone file not found: " + path, e);
+        } catch (URISyntaxException e) {
+            return failedFuture(new RuntimeException("Failed to import DNS records", e));
+        }
+    }
+
+    // Update Record
+    public boolean updateRecord(ModifiedRecord modifiedRecord) {
+        return await(updateRecordAsync(modifiedRecord), "Failed to update DNS record");
+    }
+
+    public CompletableFuture<Boolean> updateRecordAsync(ModifiedRecord modifiedRecord) {
+        return updateAndGetAsync(modifiedRecord).thenApply(Objects::nonNull);
+    }
+
+    // Update Record and return the updated record, or null if it could not be verified
+    CompletableFuture<DnsRecord> updateAndGetAsync(ModifiedRecord modifiedRecord) {
+        return updateAndGetAsync(modifiedRecord, verificationPolicy, new AtomicInteger());
+    }
+
+    CompletableFuture<DnsRecord> updateAndGetAsync(ModifiedRecord modifiedRecord, VerificationPolicy policy) {
+        return updateAndGetAsync(modifiedRecord, policy, new AtomicInteger());
+    }
+
+    private CompletableFuture<DnsRecord> updateAndGetAsync(ModifiedRecord modifiedRecord, VerificationPolicy policy, AtomicInteger attempts) {
+
+        // Check record
+        if (modifiedRecord == null) throw new IllegalArgumentException("Modified record cannot be null");
+
+        // Skip the request when nothing changed
+        if (!modifiedRecord.isModified()) return completedFuture(new DnsRecord(modifiedRecord));
 
-            // Check if update was successful
-            return response.equals(getRecordMap().get(modifiedRecord.getId()));
+        try {
+
+            // Create request, sending only the changed attributes
+            var id = modifiedRecord.getId();
+            var request = newRequest("/dns_records/" + id)
+                    .method("PATCH", HttpRequest.BodyPublishers.ofByteArray(modifiedRecord.getChangedBytes()))
+                    .build();
 
-        } catch (URISyntaxException | IOException | InterruptedException e) {
-            throw new RuntimeException("Failed to update DNS record", e);
+            // Send request
+            return sendChange(ApiOperation.UPDATE, request, ResponseReader.RECORD, attempts).thenCompose(updatedRecord -> {
+
+                // Check if update was successful
+                var verified = switch (policy) {
+                    case NONE -> completedFuture(id.equals(updatedRecord.getId()));
+                    case SINGLE_GET -> getRecordAsync(id).thenApply(updatedRecord::equals);
+                    case FULL -> getRecordMapAsync().thenApply(recordMap -> updatedRecord.equals(recordMap.get(id)));
+                };
+                return verified.thenApply(success -> success ? updatedRecord : null);
+            });
+
+        } catch (URISyntaxException e) {
+            return failedFuture(new RuntimeException("Failed to update DNS record", e));
         }
     }
 
     // Delete Record
     public boolean deleteRecord(DnsRecord dnsRecord) {
-        try {
+        return await(deleteRecordAsync(dnsRecord), "Failed to delete DNS record");
+    }
+
+    public CompletableFuture<Boolean> deleteRecordAsync(DnsRecord dnsRecord) {
+        return deleteRecordAsync(dnsRecord, new AtomicInteger());
+    }
 
-            // Check record
-            if (dnsRecord == null) throw new IllegalArgumentException("DNS record cannot be null");
+    private CompletableFuture<Boolean> deleteRecordAsync(DnsRecord dnsRecord, AtomicInteger attempts) {
+
+        // Check record
+        if (dnsRecord == null) throw new IllegalArgumentException("DNS record cannot be null");
+
+        try {
 
             // Create request
-            var request = requestBuilder
-                    .uri(new URI(BASE_URL + zoneId + "/dns_records/" + dnsRecord.getId()))
+            var id = dnsRecord.getId();
+            var policy = verificationPolicy;
+            var request = newRequest("/dns_records/" + id)
                     .DELETE()
                     .build();
 
             // Send request
-            sendRequest(request);
+            return sendChange(ApiOperation.DELETE, request, ResponseReader.TREE, attempts).thenCompose(response -> switch (policy) {
 
-            // Check if deletion was successful
-            return !getRecordMap().containsKey(dnsRecord.getId());
+                // Check if deletion was successful
+                case NONE -> completedFuture(true);
+                case SINGLE_GET -> recordExistsAsync(id).thenApply(exists -> !exists);
+                case FULL -> getRecordMapAsync().thenApply(recordMap -> !recordMap.containsKey(id));
+            });
 
-        } catch (URISyntaxException | IOException | InterruptedException e) {
-            throw new RuntimeException("Failed to delete DNS record", e);
+        } catch (URISyntaxException e) {
+            return failedFuture(new RuntimeException("Failed to delete DNS record", e));
         }
     }
 
     // Create Record
     public DnsRecord createRecord(ObjectNode record) {
-        try {
+        return await(createRecordAsync(record), "Failed to create DNS record");
+    }
+
+    public CompletableFuture<DnsRecord> createRecordAsync(ObjectNode record) {
+        return createRecordAsync(record, new AtomicInteger());
+    }
+
+    public DnsRecord createRecord(DnsRecord.Builder builder) {
+        return await(createRecordAsync(builder), "Failed to create DNS record");
+    }
+
+    public CompletableFuture<DnsRecord> createRecordAsync(DnsRecord.Builder builder) {
+        if (builder == null) throw new IllegalArgumentException("Builder cannot be null");
+        return createRecordAsync(builder.buildBytes(), verificationPolicy, new AtomicInteger());
+    }
 
-            // Check record
-            if (record == null) throw new IllegalArgumentException("Record cannot be null");
+    CompletableFuture<DnsRecord> createRecordAsync(DnsRecord.Builder builder, VerificationPolicy policy) {
+        if (builder == null) throw new IllegalArgumentException("Builder cannot be null");
+        return createRecordAsync(builder.buildBytes(), policy, new AtomicInteger());
+    }
+
+    // Upsert Record, skips the API while the last-known record already has the content
+    public DnsRecord upsertContent(String name, RecordType type, String content) {
+        return getDynamicDns().upsertContent(name, type, content);
+    }
+
+    public CompletableFuture<DnsRecord> upsertContentAsync(String name, RecordType type, String content) {
+        return getDynamicDns().upsertContentAsync(name, type, content);
+    }
+
+    private CompletableFuture<DnsRecord> createRecordAsync(ObjectNode record, AtomicInteger attempts) {
+        if (record == null) throw new IllegalArgumentException("Record cannot be null");
+        return createRecordAsync(mapper.writeValueAsBytes(record), verificationPolicy, attempts);
+    }
+
+    private CompletableFuture<DnsRecord> createRecordAsync(byte[] body, VerificationPolicy policy, AtomicInteger attempts) {
+        try {
 
             // Create request
-            var request = requestBuilder
-                    .uri(new URI(BASE_URL + zoneId + "/dns_records"))
-                    .POST(HttpRequest.BodyPublishers.ofString(record.toString()))
+            var request = newRequest("/dns_records")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body))
                     .build();
 
             // Send request
-            var response = sendRequest(request);
+            return sendChange(ApiOperation.CREATE, request, ResponseReader.RECORD, attempts).thenCompose(createdRecord -> {
+
+                // Check if creation was successful
+                if (policy == VerificationPolicy.NONE) return completedFuture(createdRecord);
+                var fetchedRecord = policy == VerificationPolicy.SINGLE_GET
+                        ? getRecordAsync(createdRecord.getId())
+                        : getRecordMapAsync().thenApply(recordMap -> recordMap.get(createdRecord.getId()));
+                return fetchedRecord.thenApply(fetched -> {
+                    if (fetched == null) throw new RuntimeException("Record creation failed");
+                    if (!createdRecord.equals(fetched)) throw new RuntimeException("Created record does not match fetched record");
+                    return createdRecord;
+                });
+            });
+
+        } catch (URISyntaxException e) {
+            return failedFuture(new RuntimeException("Failed to create DNS record", e));
+        }
+    }
+
+    // Bulk Apply
+    public BulkResult bulkApply(Collection<ObjectNode> creates, Collection<ModifiedRecord> updates, Collection<DnsRecord> deletes) {
+        return await(bulkApplyAsync(creates, updates, deletes), "Failed to apply DNS record changes");
+    }
+
+    public CompletableFuture<BulkResult> bulkApplyAsync(Collection<ObjectNode> creates, Collection<ModifiedRecord> updates, Collection<DnsRecord> deletes) {
+
+        // Check input
+        if (creates == null || creates.stream().anyMatch(Objects::isNull)) throw new IllegalArgumentException("Creates cannot be null or contain null");
+        if (updates == null || updates.stream().anyMatch(Objects::isNull)) throw new IllegalArgumentException("Updates cannot be null or contain null");
+        if (deletes == null || deletes.stream().anyMatch(Objects::isNull)) throw new IllegalArgumentException("Deletes cannot be null or contain null");
+
+        // Queue operations
+        var executor = new BulkExecutor(rateLimiter);
+        var index = 0;
+        for (var record : deletes) executor.add(DELETE, index++, attempts -> deleteRecordAsync(record, attempts).thenApply(deleted -> {
+            if (!deleted) throw new RuntimeException("Record deletion could not be verified");
+            return record;
+        }));
+        index = 0;
+        for (var record : updates) {
+            if (!record.isModified()) executor.addCompleted(UPDATE, index++, new DnsRecord(record)); // Nothing to send, no permit or lane needed
+            else executor.add(UPDATE, index++, attempts -> updateAndGetAsync(record, verificationPolicy, attempts).thenApply(updated -> {
+                if (updated == null) throw new RuntimeException("Record update could not be verified");
+                return updated;
+            }));
+        }
+        index = 0;
+        for (var record : creates) executor.add(CREATE, index++, attempts -> createRecordAsync(record, attempts));
 
-            // Check if creation was successful
-            var createdRecord = new DnsRecord(response.get("result"));
-            var recordMap = getRecordMap();
-            if (!recordMap.containsKey(createdRecord.getId())) throw new RuntimeException("Record creation failed");
-            var fetchedRecord = recordMap.get(createdRecord.getId());
-            if (!createdRecord.equals(fetchedRecord)) throw new RuntimeException("Created record does not match fetched record");
+        // Run operations
+        return executor.run(bulkConcurrency);
+    }
+
+    // Apply Batch
+    public BulkResult applyBatch(Collection<ObjectNode> creates, Collection<ModifiedRecord> updates, Collection<DnsRecord> deletes) {
+        return await(applyBatchAsync(creates, updates, deletes), "Failed to apply DNS record batch");
+    }
+
+    public CompletableFuture<BulkResult> applyBatchAsync(Collection<ObjectNode> creates, Collection<ModifiedRecord> updates, Collection<DnsRecord> deletes) {
+
+        // Check input
+        if (creates == null || creates.stream().anyMatch(Objects::isNull)) throw new IllegalArgumentException("Creates cannot be null or contain null");
+        if (updates == null || updates.stream().anyMatch(Objects::isNull)) throw new IllegalArgumentException("Updates cannot be null or contain null");
+        if (deletes == null || deletes.stream().anyMatch(Objects::isNull)) throw new IllegalArgumentException("Deletes cannot be null or contain null");
+
+        // Split changes into chunks, keeping the API order of deletes, updates and creates
+        var size = batchSize;
+        var chunks = new ArrayList<BatchChunk>();
+        var chunk = new BatchChunk();
+        var index = 0;
+        for (var record : deletes) {
+            if (chunk.size() == size) chunk = nextChunk(chunks, chunk);
+            chunk.delete(index++, record);
+        }
+        index = 0;
+        for (var record : updates) {
+            if (chunk.size() == size) chunk = nextChunk(chunks, chunk);
+            chunk.update(index++, record);
+        }
+        index = 0;
+        for (var record : creates) {
+            if (chunk.size() == size) chunk = nextChunk(chunks, chunk);
+            chunk.create(index++, record);
+        }
+        if (chunk.size() > 0) chunks.add(chunk);
+
+        // Send chunks one after another
+        var start = System.nanoTime();
+        var items = new ArrayList<BulkResult.Item>();
+        return applyChunks(chunks.iterator(), items, Deadline.current()).thenApply(ignored -> new BulkResult(items, Duration.ofNanos(System.nanoTime() - start)));
+    }
+
+    // Apply remaining chunks
+    private CompletableFuture<Void> applyChunks(Iterator<BatchChunk> chunks, List<BulkResult.Item> items, Deadline deadline) {
+
+        // Check for remaining chunks
+        if (!chunks.hasNext()) return completedFuture(null);
+
+        // Send chunk and map results
+        var chunk = chunks.next();
+        var attempts = new AtomicInteger();
+        if (!chunk.hasChanges()) {
+            items.addAll(chunk.succeeded(mapper.createObjectNode(), 0));
+            return applyChunks(chunks, items, deadline);
+        }
+        return BulkExecutor.execute(rateLimiter, deadline, () -> sendBatch(chunk, attempts).thenApply(result -> chunk.succeeded(result, attempts.get())))
+                .exceptionally(throwable -> chunk.failed(Transport.unwrap(throwable), attempts.get()))
+                .thenCompose(chunkItems -> {
+                    items.addAll(chunkItems);
+                    return applyChunks(chunks, items, deadline);
+                });
+    }
+
+    // Close full chunk and start the next one
+    private static BatchChunk nextChunk(List<BatchChunk> chunks, BatchChunk chunk) {
+        chunks.add(chunk);
+        return new BatchChunk();
+    }
+
+    // Send Batch
+    private CompletableFuture<JsonNode> sendBatch(BatchChunk chunk, AtomicInteger attempts) {
+        try {
+
+            // Create request
+            var request = newRequest("/dns_records/batch")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(chunk.toBytes(mapper)))
+                    .build();
 
-            // Return created record
-            return createdRecord;
+            // Send request, retried only on rate limit since batches are not idempotent
+            return sendChange(ApiOperation.BATCH, request, ResponseReader.TREE, attempts);
 
-        } catch (URISyntaxException | IOException | InterruptedException e) {
-            throw new RuntimeException("Failed to create DNS record", e);
+        } catch (URISyntaxException e) {
+            return failedFuture(new RuntimeException("Failed to apply DNS record batch", e));
         }
     }
-}
\ No newline at end of file
+}
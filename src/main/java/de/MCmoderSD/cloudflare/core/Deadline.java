@@ -0,0 +1,95 @@
+package de.MCmoderSD.cloudflare.core;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// Point in time by which blocking calls on the current thread must finish, bound with run or get
+@SuppressWarnings("unused")
+public final class Deadline {
+
+    // Deadline bound to the current thread
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    // Attributes
+    private final long nanoTime;
+
+    // Constructor
+    private Deadline(long nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    // Create deadline the given time from now
+    public static Deadline after(Duration timeout) {
+        if (timeout == null || timeout.isNegative()) throw new IllegalArgumentException("Timeout cannot be null or negative");
+        return new Deadline(System.nanoTime() + saturatedNanos(timeout));
+    }
+
+    // Get deadline bound to the current thread, null if there is none
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    // Run task with this deadline, a nested deadline never extends an outer one
+    public void run(Runnable task) {
+        if (task == null) throw new IllegalArgumentException("Task cannot be null");
+        get(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public <T> T get(Supplier<T> task) {
+        if (task == null) throw new IllegalArgumentException("Task cannot be null");
+        var previous = CURRENT.get();
+        CURRENT.set(previous != null && previous.nanoTime - nanoTime < 0 ? previous : this);
+        try {
+            return task.get();
+        } finally {
+            bind(previous);
+        }
+    }
+
+    // Run task with the given deadline or none, used to carry a deadline into callbacks
+    static <T> T with(Deadline deadline, Supplier<T> task) {
+        var previous = CURRENT.get();
+        bind(deadline);
+        try {
+            return task.get();
+        } finally {
+            bind(previous);
+        }
+    }
+
+    // Bind or clear deadline of the current thread
+    private static void bind(Deadline deadline) {
+        if (deadline == null) CURRENT.remove();
+        else CURRENT.set(deadline);
+    }
+
+    // Convert duration without overflowing
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE / 2;
+        }
+    }
+
+    // Getters
+    public long remainingNanos() {
+        return Math.max(0, nanoTime - System.nanoTime());
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(remainingNanos());
+    }
+
+    public boolean isExpired() {
+        return nanoTime - System.nanoTime() <= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{remaining=" + remaining() + "}";
+    }
+}
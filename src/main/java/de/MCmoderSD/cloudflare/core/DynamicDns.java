@@ -0,0 +1,227 @@
+package de.MCmoderSD.cloudflare.core;
+
+import de.MCmoderSD.cloudflare.enums.RecordType;
+import de.MCmoderSD.cloudflare.enums.VerificationPolicy;
+import de.MCmoderSD.cloudflare.exceptions.ClientException;
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+import de.MCmoderSD.cloudflare.objects.ModifiedRecord;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+// Keeps hostnames pointed at changing content, e.g. the current IP of a host, with as few API calls as possible
+@SuppressWarnings({"unused", "UnusedReturnValue"})
+public class DynamicDns {
+
+    // Attributes
+    private final CloudflareClient client;
+    private final ConcurrentHashMap<String, Host> hosts;
+    private volatile long debounce;
+
+    // Statistics
+    private final AtomicLong writes;
+    private final AtomicLong skipped;
+    private final AtomicLong coalesced;
+
+    // Constructor
+    public DynamicDns(CloudflareClient client) {
+
+        // Check client
+        if (client == null) throw new IllegalArgumentException("Client cannot be null");
+
+        // Set attributes
+        this.client = client;
+        hosts = new ConcurrentHashMap<>();
+
+        // Initialize statistics
+        writes = new AtomicLong();
+        skipped = new AtomicLong();
+        coalesced = new AtomicLong();
+    }
+
+    // Point the record of a name and type at the content, creating it if it does not exist
+    public DnsRecord upsertContent(String name, RecordType type, String content) {
+        return CloudflareClient.await(upsertContentAsync(name, type, content), "Failed to upsert DNS record");
+    }
+
+    public CompletableFuture<DnsRecord> upsertContentAsync(String name, RecordType type, String content) {
+        if (type == null) throw new IllegalArgumentException("Type cannot be null");
+        var desired = DnsRecord.builder(type).name(name).content(content);
+        return hosts.computeIfAbsent(key(name, type), key -> new Host(name, type)).upsert(desired);
+    }
+
+    // Drop the last-known record, the next upsert looks it up again
+    public void forget(String name, RecordType type) {
+        if (name == null || type == null) throw new IllegalArgumentException("Name and type cannot be null");
+        hosts.remove(key(name, type));
+    }
+
+    public void clear() {
+        hosts.clear();
+    }
+
+    // Set minimum time between writes to the same host, upserts in between are merged and only the latest content is written
+    public DynamicDns setDebounce(Duration debounce) {
+        if (debounce == null || debounce.isNegative()) throw new IllegalArgumentException("Debounce cannot be null or negative");
+        this.debounce = debounce.toNanos();
+        return this;
+    }
+
+    // Getters
+    public Duration getDebounce() {
+        return Duration.ofNanos(debounce);
+    }
+
+    public int getHostCount() {
+        return hosts.size();
+    }
+
+    public long getWrites() {
+        return writes.get();
+    }
+
+    public long getSkipped() {
+        return skipped.get();
+    }
+
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    // Check if a record already has the desired content
+    private static boolean matches(DnsRecord record, DnsRecord.Builder desired) {
+        return desired.getData() == null ? desired.getContent().equals(record.getContent()) : desired.getData().equals(record.getData());
+    }
+
+    // Key of a host
+    private static String key(String name, RecordType type) {
+        return type.name() + ' ' + name.toLowerCase(Locale.ROOT);
+    }
+
+    // State of one name and type, at most one change is in flight and one more is queued
+    private final class Host {
+
+        // Attributes
+        private final String name;
+        private final RecordType type;
+
+        // State, guarded by this
+        private DnsRecord known;
+        private DnsRecord.Builder desired;
+        private CompletableFuture<DnsRecord> queued;
+        private boolean running;
+        private long lastApplied;
+
+        // Constructor
+        private Host(String name, RecordType type) {
+            this.name = name;
+            this.type = type;
+            lastApplied = System.nanoTime() - Long.MAX_VALUE / 2;
+        }
+
+        // Request content, answered from the last-known record when nothing changed
+        private synchronized CompletableFuture<DnsRecord> upsert(DnsRecord.Builder next) {
+
+            // Skip API calls while the known record already matches
+            if (queued == null && !running && known != null && matches(known, next)) {
+                skipped.incrementAndGet();
+                return completedFuture(known);
+            }
+
+            // Merge into the queued change, the latest content wins
+            desired = next;
+            if (queued != null) {
+                coalesced.incrementAndGet();
+                return queued.copy(); // Each caller gets its own future, cancelling it must not fail the others
+            }
+
+            // Queue change, it starts when the running one finishes
+            queued = new CompletableFuture<>();
+            var result = queued.copy();
+            if (!running) schedule();
+            return result;
+        }
+
+        // Start the queued change once the debounce has passed
+        private void schedule() {
+            var delay = Math.max(0, lastApplied + debounce - System.nanoTime());
+            delayedExecutor(delay, NANOSECONDS).execute(this::start);
+        }
+
+        // Apply the latest desired content
+        private void start() {
+            CompletableFuture<DnsRecord> result;
+            DnsRecord current;
+            DnsRecord.Builder target;
+            synchronized (this) {
+                result = queued;
+                queued = null;
+                running = true;
+                current = known;
+                target = desired;
+            }
+            CompletableFuture<DnsRecord> change;
+            try {
+                change = apply(current, target);
+            } catch (RuntimeException e) {
+                change = failedFuture(e);
+            }
+            change.whenComplete((record, throwable) -> finish(result, record, throwable));
+        }
+
+        // Remember outcome and start the next queued change
+        private void finish(CompletableFuture<DnsRecord> result, DnsRecord record, Throwable throwable) {
+            synchronized (this) {
+                known = throwable == null ? record : null; // Look the record up again after a failure
+                running = false;
+                lastApplied = System.nanoTime();
+                if (queued != null) schedule();
+            }
+            if (throwable == null) result.complete(record);
+            else result.completeExceptionally(Transport.unwrap(throwable));
+        }
+
+        // Change the known record, or find it first
+        private CompletableFuture<DnsRecord> apply(DnsRecord current, DnsRecord.Builder target) {
+            if (current == null) return lookup(target);
+            if (matches(current, target)) {
+                skipped.incrementAndGet();
+                return completedFuture(current);
+            }
+            return update(current, target).exceptionallyCompose(throwable -> {
+                if (Transport.unwrap(throwable) instanceof ClientException clientException && clientException.isNotFound()) return lookup(target); // Deleted elsewhere
+                return failedFuture(throwable);
+            });
+        }
+
+        // Find the record with a filtered query, preferring one that already has the content
+        private CompletableFuture<DnsRecord> lookup(DnsRecord.Builder target) {
+            return client.query().type(type).name(name).listAsync().thenCompose(records -> {
+                for (var record : records) if (matches(record, target)) return completedFuture(record);
+                if (!records.isEmpty()) return update(records.getFirst(), target);
+                writes.incrementAndGet();
+                return client.createRecordAsync(target, VerificationPolicy.NONE); // The response already carries the created record
+            });
+        }
+
+        // Send content change of an existing record
+        private CompletableFuture<DnsRecord> update(DnsRecord record, DnsRecord.Builder target) {
+            var modifiedRecord = new ModifiedRecord(record);
+            if (target.getData() == null) modifiedRecord.modifyContent(target.getContent());
+            else modifiedRecord.modifyData(target.getData());
+            writes.incrementAndGet();
+            return client.updateAndGetAsync(modifiedRecord, VerificationPolicy.NONE).thenApply(updated -> { // The response already carries the updated record
+                if (updated == null) throw new RuntimeException("Record update returned a different record");
+                return updated;
+            });
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package de.MCmoderSD.cloudflare.core;
+
+import java.time.Duration;
+
+@SuppressWarnings("unused")
+public class RateLimiter {
+
+    // Attributes
+    private final double capacity;
+    private final double permitsPerNano;
+
+    // State
+    private double tokens;
+    private long lastRefill;
+    private long pausedUntil;
+
+    // Constructor
+    public RateLimiter(int permits, Duration period) {
+
+        // Check parameters
+        if (permits < 1) throw new IllegalArgumentException("Permits must be at least 1");
+        if (period == null || period.isNegative() || period.isZero()) throw new IllegalArgumentException("Period must be positive");
+
+        // Set attributes
+        capacity = permits;
+        permitsPerNano = permits / (double) period.toNanos();
+
+        // Start with a full bucket
+        tokens = capacity;
+        lastRefill = System.nanoTime();
+        pausedUntil = lastRefill;
+    }
+
+    // Reserve one permit and return the nanoseconds to wait before using it
+    public synchronized long reserve() {
+
+        // Refill bucket
+        var now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerNano);
+        lastRefill = now;
+
+        // Take permit, waiting for the deficit if the bucket is empty
+        tokens -= 1;
+        var wait = tokens >= 0 ? 0L : (long) Math.ceil(-tokens / permitsPerNano);
+        return Math.max(wait, pausedUntil - now);
+    }
+
+    // Hold back all permits, e.g. after a 429 with Retry-After
+    public synchronized void pause(Duration duration) {
+        if (duration == null || duration.isNegative()) throw new IllegalArgumentException("Duration cannot be null or negative");
+        var until = System.nanoTime() + duration.toNanos();
+        if (until - pausedUntil > 0) pausedUntil = until;
+    }
+}
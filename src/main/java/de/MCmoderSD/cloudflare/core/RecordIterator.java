@@ -0,0 +1,68 @@
+package de.MCmoderSD.cloudflare.core;
+
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+
+final class RecordIterator implements Iterator<DnsRecord> {
+
+    // Attributes
+    private final CloudflareClient client;
+    private final String filter;
+    private final int perPage;
+
+    // State
+    private Iterator<DnsRecord> current;
+    private CompletableFuture<RecordPage> next;
+    private int page;
+
+    // Constructor
+    RecordIterator(CloudflareClient client, String filter, int perPage) {
+
+        // Set attributes
+        this.client = client;
+        this.filter = filter;
+        this.perPage = perPage;
+
+        // Request first page
+        current = Collections.emptyIterator();
+        page = 1;
+        next = client.fetchPage(filter, page, perPage);
+    }
+
+    @Override
+    public boolean hasNext() {
+
+        // Advance to the next non-empty page
+        while (!current.hasNext()) {
+
+            // Check if there are more pages
+            if (next == null) return false;
+
+            // Wait for the prefetched page
+            var recordPage = CloudflareClient.await(next, "Failed to get DNS records");
+
+            // Prefetch the following page while this one is consumed
+            next = recordPage.hasNext(page, perPage) ? client.fetchPage(filter, ++page, perPage) : null;
+            current = recordPage.getRecords().iterator();
+        }
+
+        return true;
+    }
+
+    @Override
+    public DnsRecord next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        return current.next();
+    }
+
+    // Cancel prefetched page
+    void close() {
+        if (next != null) next.cancel(true);
+        next = null;
+        current = Collections.emptyIterator();
+    }
+}
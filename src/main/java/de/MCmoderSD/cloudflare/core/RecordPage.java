@@ -0,0 +1,50 @@
+package de.MCmoderSD.cloudflare.core;
+
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.util.List;
+
+final class RecordPage {
+
+    // Attributes
+    private final List<DnsRecord> records;
+    private final int page;
+    private final int totalPages;
+
+    // Constructor
+    private RecordPage(List<DnsRecord> records, int page, int totalPages) {
+        this.records = records;
+        this.page = page;
+        this.totalPages = totalPages;
+    }
+
+    // Parse page from response stream
+    static RecordPage read(ObjectMapper mapper, InputStream inputStream) {
+        var resultInfo = new int[2];
+        var records = ResponseReader.read(mapper, inputStream, ResponseReader.RECORDS, info -> {
+            resultInfo[0] = info.path("page").asInt();
+            resultInfo[1] = info.path("total_pages").asInt();
+        });
+        return new RecordPage(records, resultInfo[0], resultInfo[1]);
+    }
+
+    // Check if another page follows
+    boolean hasNext(int page, int perPage) {
+        return totalPages > 0 ? page < totalPages : records.size() == perPage;
+    }
+
+    // Getters
+    List<DnsRecord> getRecords() {
+        return records;
+    }
+
+    int getPage() {
+        return page;
+    }
+
+    int getTotalPages() {
+        return totalPages;
+    }
+}
@@ -0,0 +1,176 @@
+package de.MCmoderSD.cloudflare.core;
+
+import de.MCmoderSD.cloudflare.enums.FilterMatch;
+import de.MCmoderSD.cloudflare.enums.RecordOrder;
+import de.MCmoderSD.cloudflare.enums.RecordType;
+import de.MCmoderSD.cloudflare.enums.SortDirection;
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@SuppressWarnings({"unused", "UnusedReturnValue"})
+public class RecordQuery {
+
+    // Attributes
+    private final CloudflareClient client;
+    private final LinkedHashMap<String, String> parameters;
+    private int perPage;
+
+    // Constructor
+    RecordQuery(CloudflareClient client) {
+        this.client = client;
+        parameters = new LinkedHashMap<>();
+        perPage = CloudflareClient.DEFAULT_PAGE_SIZE;
+    }
+
+    // Type filter
+    public RecordQuery type(RecordType type) {
+        if (type == null) throw new IllegalArgumentException("Type cannot be null");
+        parameters.put("type", type.name());
+        return this;
+    }
+
+    // Name filters
+    public RecordQuery name(String name) {
+        return filter("name.exact", name, "Name");
+    }
+
+    public RecordQuery nameContains(String name) {
+        return filter("name.contains", name, "Name");
+    }
+
+    public RecordQuery nameStartsWith(String name) {
+        return filter("name.startswith", name, "Name");
+    }
+
+    public RecordQuery nameEndsWith(String name) {
+        return filter("name.endswith", name, "Name");
+    }
+
+    // Content filters
+    public RecordQuery content(String content) {
+        return filter("content.exact", content, "Content");
+    }
+
+    public RecordQuery contentContains(String content) {
+        return filter("content.contains", content, "Content");
+    }
+
+    // Comment filters
+    public RecordQuery comment(String comment) {
+        return filter("comment.exact", comment, "Comment");
+    }
+
+    public RecordQuery commentContains(String comment) {
+        return filter("comment.contains", comment, "Comment");
+    }
+
+    // Proxy filter
+    public RecordQuery proxied(boolean proxied) {
+        parameters.put("proxied", String.valueOf(proxied));
+        return this;
+    }
+
+    // Combine filters with AND (default) or OR
+    public RecordQuery match(FilterMatch match) {
+        if (match == null) throw new IllegalArgumentException("Match cannot be null");
+        parameters.put("match", lowerCase(match));
+        return this;
+    }
+
+    // Sort order
+    public RecordQuery order(RecordOrder order) {
+        if (order == null) throw new IllegalArgumentException("Order cannot be null");
+        parameters.put("order", lowerCase(order));
+        return this;
+    }
+
+    public RecordQuery order(RecordOrder order, SortDirection direction) {
+        return order(order).direction(direction);
+    }
+
+    public RecordQuery direction(SortDirection direction) {
+        if (direction == null) throw new IllegalArgumentException("Direction cannot be null");
+        parameters.put("direction", lowerCase(direction));
+        return this;
+    }
+
+    // Page size
+    public RecordQuery perPage(int perPage) {
+        CloudflareClient.checkPageSize(perPage);
+        this.perPage = perPage;
+        return this;
+    }
+
+    // List all matching records in server order
+    public List<DnsRecord> list() {
+        return CloudflareClient.await(listAsync(), "Failed to query DNS records");
+    }
+
+    public CompletableFuture<List<DnsRecord>> listAsync() {
+        return client.collectPages(toQueryString(), 1, perPage, new ArrayList<>());
+    }
+
+    // Get first matching record with a single small page
+    public Optional<DnsRecord> first() {
+        return CloudflareClient.await(firstAsync(), "Failed to query DNS records");
+    }
+
+    public CompletableFuture<Optional<DnsRecord>> firstAsync() {
+        return client.fetchPage(toQueryString(), 1, CloudflareClient.MIN_PAGE_SIZE).thenApply(recordPage -> recordPage.getRecords().stream().findFirst());
+    }
+
+    // Iterate matching records page by page
+    public Iterator<DnsRecord> iterator() {
+        return new RecordIterator(client, toQueryString(), perPage);
+    }
+
+    public Stream<DnsRecord> stream() {
+        return client.streamPages(toQueryString(), perPage);
+    }
+
+    public void forEach(Consumer<DnsRecord> consumer) {
+        if (consumer == null) throw new IllegalArgumentException("Consumer cannot be null");
+        iterator().forEachRemaining(consumer);
+    }
+
+    // Scan matching records through a reusable view, see CloudflareClient.scanRecords
+    public void scan(Consumer<RecordView> consumer) {
+        client.scanPages(toQueryString(), perPage, consumer);
+    }
+
+    // Build URL parameters appended to the page parameters
+    String toQueryString() {
+        var query = new StringBuilder();
+        for (var parameter : parameters.entrySet()) query.append('&').append(parameter.getKey()).append('=').append(URLEncoder.encode(parameter.getValue(), UTF_8));
+        return query.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "RecordQuery{" + parameters + ", perPage=" + perPage + "}";
+    }
+
+    // Set text filter
+    private RecordQuery filter(String parameter, String value, String label) {
+        if (value == null || value.isBlank()) throw new IllegalArgumentException(label + " cannot be null or blank");
+        parameters.put(parameter, value);
+        return this;
+    }
+
+    // Lower case API value
+    private static String lowerCase(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,393 @@
+package de.MCmoderSD.cloudflare.core;
+
+import de.MCmoderSD.cloudflare.enums.RecordType;
+import de.MCmoderSD.cloudflare.exceptions.ApiException;
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Locale;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+// Read-only view over the records of one raw response page, moved from record to record during a scan
+// Fields are decoded on access and the view is reused, so it must not be kept after the consumer returns
+@SuppressWarnings("unused")
+public final class RecordView {
+
+    // Envelope keys
+    private static final byte[] SUCCESS = bytes("success");
+    private static final byte[] RESULT = bytes("result");
+    private static final byte[] RESULT_INFO = bytes("result_info");
+    private static final byte[] TOTAL_PAGES = bytes("total_pages");
+
+    // Record keys, in slot order
+    private static final byte[][] KEYS = {bytes("id"), bytes("name"), bytes("type"), bytes("content"), bytes("ttl"), bytes("proxied"), bytes("comment")};
+
+    // Offset table layout, start and end of the record followed by start and end of each value
+    private static final int ID = 0, NAME = 1, TYPE = 2, CONTENT = 3, TTL = 4, PROXIED = 5, COMMENT = 6;
+    private static final int STRIDE = 2 + KEYS.length * 2;
+
+    // Record types, cached to avoid the copy made by values()
+    private static final RecordType[] TYPES = RecordType.values();
+
+    // Attributes
+    private final ObjectMapper mapper;
+
+    // Raw page and its index, reused for every page read into this view
+    private byte[] buffer;
+    private int length;
+    private int[] offsets;
+    private int count;
+    private int totalPages;
+
+    // Position
+    private int base;
+    private int index;
+
+    // Constructor
+    RecordView(ObjectMapper mapper) {
+        this.mapper = mapper;
+        buffer = new byte[1 << 16];
+        offsets = new int[STRIDE * 64];
+    }
+
+    // Load page from response stream into the buffer and index its records, the content length is -1 if unknown
+    void read(InputStream inputStream, long contentLength) {
+
+        // Check input
+        if (inputStream == null) throw new RuntimeException("Response body is null");
+
+        // Copy body, growing the buffer only for larger pages
+        if (contentLength >= buffer.length && contentLength < Integer.MAX_VALUE - 8) buffer = new byte[(int) contentLength + 1]; // One spare byte, a full buffer would grow before the end of stream is seen
+        try (inputStream) {
+            length = 0;
+            int read;
+            while ((read = inputStream.read(buffer, length, buffer.length - length)) != -1) {
+                length += read;
+                if (length == buffer.length) buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read response body", e);
+        }
+
+        // Index records
+        count = 0;
+        totalPages = 0;
+        index = -1;
+        indexEnvelope();
+    }
+
+    // Move to the next record
+    boolean advance() {
+        if (index + 1 >= count) return false;
+        base = ++index * STRIDE;
+        return true;
+    }
+
+    // Check if another page follows
+    boolean hasNext(int page, int perPage) {
+        return totalPages > 0 ? page < totalPages : count == perPage;
+    }
+
+    // Materialize the current record
+    public DnsRecord toRecord() {
+        var start = offsets[base];
+        try (var parser = mapper.createParser(buffer, start, offsets[base + 1] - start)) {
+            parser.nextToken();
+            return new DnsRecord(parser);
+        }
+    }
+
+    // Getters, strings are decoded on every call
+    public String getId() {
+        return decode(ID);
+    }
+
+    public String getName() {
+        return decode(NAME);
+    }
+
+    public String getContent() {
+        return decode(CONTENT);
+    }
+
+    public String getComment() {
+        return decode(COMMENT);
+    }
+
+    // Getters without allocation
+    public RecordType getType() {
+        var start = valueStart(TYPE);
+        if (start < 0 || buffer[start] != '"') return null;
+        var end = valueEnd(TYPE) - 1;
+        for (var type : TYPES) if (regionEquals(start + 1, end, type.name(), false)) return type;
+        return null;
+    }
+
+    public int getTtl() {
+        var start = valueStart(TTL);
+        if (start < 0) return 0;
+        var ttl = 0;
+        for (var i = start; i < valueEnd(TTL) && buffer[i] >= '0' && buffer[i] <= '9'; i++) ttl = ttl * 10 + buffer[i] - '0';
+        return ttl;
+    }
+
+    public boolean isProxied() {
+        var start = valueStart(PROXIED);
+        return start >= 0 && buffer[start] == 't';
+    }
+
+    public boolean nameEquals(String name) {
+        return stringEquals(NAME, name, true);
+    }
+
+    public boolean nameEndsWith(String suffix) {
+        if (suffix == null) return false;
+        var start = valueStart(NAME);
+        if (start < 0 || buffer[start] != '"') return false;
+        var end = valueEnd(NAME) - 1;
+        if (!isPlain(start + 1, end)) return getName().toLowerCase(Locale.ROOT).endsWith(suffix.toLowerCase(Locale.ROOT));
+        return end - start - 1 >= suffix.length() && regionEquals(end - suffix.length(), end, suffix, true);
+    }
+
+    public boolean contentEquals(String content) {
+        return stringEquals(CONTENT, content, false);
+    }
+
+    @Override
+    public String toString() {
+        return index < 0 || index >= count ? "RecordView{}" : "RecordView{type=" + getType() + ", name=" + getName() + ", content=" + getContent() + "}";
+    }
+
+    // Value bounds of the current record, -1 if the field is missing
+    private int valueStart(int slot) {
+        return offsets[base + 2 + slot * 2];
+    }
+
+    private int valueEnd(int slot) {
+        return offsets[base + 3 + slot * 2];
+    }
+
+    // Decode string value, null if missing or not a string
+    private String decode(int slot) {
+        var start = valueStart(slot);
+        if (start < 0 || buffer[start] != '"') return null;
+        var end = valueEnd(slot);
+        if (!hasEscapes(start + 1, end - 1)) return new String(buffer, start + 1, end - start - 2, UTF_8);
+        try (var parser = mapper.createParser(buffer, start, end - start)) {
+            parser.nextToken();
+            return parser.getString();
+        }
+    }
+
+    // Compare string value without decoding it, unless it contains escapes or non-ASCII characters
+    private boolean stringEquals(int slot, String value, boolean ignoreCase) {
+        if (value == null) return false;
+        var start = valueStart(slot);
+        if (start < 0 || buffer[start] != '"') return false;
+        var end = valueEnd(slot) - 1;
+        if (!isPlain(start + 1, end)) return ignoreCase ? value.equalsIgnoreCase(decode(slot)) : value.equals(decode(slot));
+        return regionEquals(start + 1, end, value, ignoreCase);
+    }
+
+    // Compare plain ASCII bytes with a string
+    private boolean regionEquals(int start, int end, String value, boolean ignoreCase) {
+        if (end - start != value.length()) return false;
+        for (var i = 0; i < value.length(); i++) {
+            var b = buffer[start + i];
+            var c = value.charAt(i);
+            if (b == c) continue;
+            if (!ignoreCase || c > 0x7F || Character.toLowerCase((char) b) != Character.toLowerCase(c)) return false;
+        }
+        return true;
+    }
+
+    private boolean hasEscapes(int start, int end) {
+        for (var i = start; i < end; i++) if (buffer[i] == '\\') return true;
+        return false;
+    }
+
+    private boolean isPlain(int start, int end) {
+        for (var i = start; i < end; i++) if (buffer[i] == '\\' || buffer[i] < 0) return false;
+        return true;
+    }
+
+    // Index envelope fields, records are indexed in place and the rest is skipped
+    private void indexEnvelope() {
+        var success = false;
+        var result = false;
+        var pos = expect(skipWhitespace(0), '{');
+        pos = skipWhitespace(pos);
+        if (byteAt(pos) == '}') pos++;
+        else while (true) {
+
+            // Read key
+            var keyStart = pos + 1;
+            pos = skipString(pos);
+            var keyEnd = pos - 1;
+            pos = skipWhitespace(expect(skipWhitespace(pos), ':'));
+
+            // Read value
+            if (keyEquals(keyStart, keyEnd, SUCCESS)) {
+                success = byteAt(pos) == 't';
+                pos = skipValue(pos);
+            } else if (keyEquals(keyStart, keyEnd, RESULT) && byteAt(pos) == '[') {
+                pos = indexRecords(pos);
+                result = true;
+            } else if (keyEquals(keyStart, keyEnd, RESULT_INFO) && byteAt(pos) == '{') pos = indexResultInfo(pos);
+            else pos = skipValue(pos);
+
+            // Next field
+            pos = skipWhitespace(pos);
+            if (byteAt(pos) != ',') {
+                expect(pos, '}');
+                break;
+            }
+            pos = skipWhitespace(pos + 1);
+        }
+
+        // Check envelope
+        if (!success) throw ApiException.of(200, null, ResponseReader.readErrors(mapper, new ByteArrayInputStream(buffer, 0, length)));
+        if (!result) throw new RuntimeException("Response body does not contain result array");
+    }
+
+    // Index result array
+    private int indexRecords(int pos) {
+        pos = skipWhitespace(pos + 1);
+        if (byteAt(pos) == ']') return pos + 1;
+        while (true) {
+            pos = skipWhitespace(indexRecord(pos));
+            if (byteAt(pos) != ',') return expect(pos, ']');
+            pos = skipWhitespace(pos + 1);
+        }
+    }
+
+    // Index one record object, remembering where its values start and end
+    private int indexRecord(int pos) {
+
+        // Reserve slots
+        if (byteAt(pos) != '{') throw new RuntimeException("Response body does not contain record object");
+        var slots = count * STRIDE;
+        if (slots + STRIDE > offsets.length) offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        Arrays.fill(offsets, slots, slots + STRIDE, -1);
+        offsets[slots] = pos;
+
+        // Read fields
+        pos = skipWhitespace(pos + 1);
+        if (byteAt(pos) == '}') pos++;
+        else while (true) {
+            var keyStart = pos + 1;
+            pos = skipString(pos);
+            var keyEnd = pos - 1;
+            pos = skipWhitespace(expect(skipWhitespace(pos), ':'));
+            var valueStart = pos;
+            pos = skipValue(pos);
+            for (var slot = 0; slot < KEYS.length; slot++) {
+                if (!keyEquals(keyStart, keyEnd, KEYS[slot])) continue;
+                offsets[slots + 2 + slot * 2] = valueStart;
+                offsets[slots + 3 + slot * 2] = pos;
+                break;
+            }
+            pos = skipWhitespace(pos);
+            if (byteAt(pos) != ',') {
+                pos = expect(pos, '}');
+                break;
+            }
+            pos = skipWhitespace(pos + 1);
+        }
+
+        // Close record
+        offsets[slots + 1] = pos;
+        count++;
+        return pos;
+    }
+
+    // Read total pages, other fields are skipped
+    private int indexResultInfo(int pos) {
+        pos = skipWhitespace(pos + 1);
+        if (byteAt(pos) == '}') return pos + 1;
+        while (true) {
+            var keyStart = pos + 1;
+            pos = skipString(pos);
+            var keyEnd = pos - 1;
+            pos = skipWhitespace(expect(skipWhitespace(pos), ':'));
+            if (keyEquals(keyStart, keyEnd, TOTAL_PAGES)) {
+                totalPages = 0;
+                while (byteAt(pos) >= '0' && byteAt(pos) <= '9') totalPages = totalPages * 10 + buffer[pos++] - '0';
+            }
+            pos = skipWhitespace(skipValue(pos));
+            if (byteAt(pos) != ',') return expect(pos, '}');
+            pos = skipWhitespace(pos + 1);
+        }
+    }
+
+    // Skip any value, returning the position after it
+    private int skipValue(int pos) {
+        return switch (byteAt(pos)) {
+            case '"' -> skipString(pos);
+            case '{', '[' -> skipContainer(pos);
+            default -> {
+                while (pos < length && !isDelimiter(buffer[pos])) pos++;
+                yield pos;
+            }
+        };
+    }
+
+    // Skip object or array, strings are skipped whole so brackets inside them do not count
+    private int skipContainer(int pos) {
+        var depth = 0;
+        do {
+            var b = byteAt(pos);
+            if (b == '"') {
+                pos = skipString(pos);
+                continue;
+            }
+            if (b == '{' || b == '[') depth++;
+            else if (b == '}' || b == ']') depth--;
+            pos++;
+        } while (depth > 0);
+        return pos;
+    }
+
+    // Skip string starting at its opening quote, returning the position after the closing quote
+    private int skipString(int pos) {
+        expect(pos, '"');
+        for (pos++; ; pos++) {
+            var b = byteAt(pos);
+            if (b == '\\') pos++;
+            else if (b == '"') return pos + 1;
+        }
+    }
+
+    private int skipWhitespace(int pos) {
+        while (pos < length && (buffer[pos] == ' ' || buffer[pos] == '\n' || buffer[pos] == '\r' || buffer[pos] == '\t')) pos++;
+        return pos;
+    }
+
+    // Check expected byte, returning the position after it
+    private int expect(int pos, char expected) {
+        if (byteAt(pos) != expected) throw new RuntimeException("Response body is not valid JSON at offset " + pos);
+        return pos + 1;
+    }
+
+    private byte byteAt(int pos) {
+        if (pos >= length) throw new RuntimeException("Response body ended unexpectedly");
+        return buffer[pos];
+    }
+
+    private boolean keyEquals(int start, int end, byte[] key) {
+        return end - start == key.length && Arrays.equals(buffer, start, end, key, 0, key.length);
+    }
+
+    private static boolean isDelimiter(byte b) {
+        return b == ',' || b == '}' || b == ']' || b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(UTF_8);
+    }
+}
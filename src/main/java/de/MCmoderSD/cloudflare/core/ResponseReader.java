@@ -0,0 +1,114 @@
+package de.MCmoderSD.cloudflare.core;
+
+import de.MCmoderSD.cloudflare.exceptions.ApiException;
+import de.MCmoderSD.cloudflare.objects.ApiError;
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+final class ResponseReader {
+
+    // Result readers
+    static final Function<JsonParser, DnsRecord> RECORD = DnsRecord::new;
+    static final Function<JsonParser, List<DnsRecord>> RECORDS = ResponseReader::readRecords;
+    static final Function<JsonParser, JsonNode> TREE = JsonParser::readValueAsTree;
+
+    // Constructor
+    private ResponseReader() {
+        // Utility class
+    }
+
+    // Read envelope and bind the result while the body is streamed
+    static <T> T read(ObjectMapper mapper, InputStream inputStream, Function<JsonParser, T> resultReader) {
+        return read(mapper, inputStream, resultReader, null);
+    }
+
+    static <T> T read(ObjectMapper mapper, InputStream inputStream, Function<JsonParser, T> resultReader, Consumer<JsonNode> resultInfo) {
+
+        // Check input
+        if (inputStream == null) throw new RuntimeException("Response body is null");
+
+        // Envelope attributes
+        T result = null;
+        var success = false;
+        JsonNode errors = null;
+
+        // Parse response one token at a time
+        try (inputStream; var parser = mapper.createParser(inputStream)) {
+
+            // Check envelope
+            if (parser.nextToken() != JsonToken.START_OBJECT) throw new RuntimeException("Response body is not a JSON object");
+
+            // Read envelope fields
+            while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                var field = parser.currentName();
+                var token = parser.nextToken();
+                switch (field) {
+                    case "success" -> success = token == JsonToken.VALUE_TRUE;
+                    case "errors" -> errors = parser.readValueAsTree();
+                    case "result" -> {
+                        if (token != JsonToken.VALUE_NULL) result = resultReader.apply(parser);
+                    }
+                    case "result_info" -> {
+                        if (resultInfo == null) parser.skipChildren();
+                        else resultInfo.accept(parser.readValueAsTree());
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read response body", e);
+        }
+
+        // Check envelope
+        if (!success) throw ApiException.of(200, null, toErrors(errors));
+        if (result == null) throw new RuntimeException("Response body does not contain result");
+
+        // Return result
+        return result;
+    }
+
+    // Read errors of a failed response, tolerating bodies that are not JSON
+    static List<ApiError> readErrors(ObjectMapper mapper, InputStream inputStream) {
+        if (inputStream == null) return List.of();
+        try (inputStream; var parser = mapper.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) return List.of();
+            List<ApiError> errors = List.of();
+            while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                var field = parser.currentName();
+                parser.nextToken();
+                if (field.equals("errors")) errors = toErrors(parser.readValueAsTree());
+                else parser.skipChildren();
+            }
+            return errors;
+        } catch (IOException | RuntimeException e) {
+            return List.of();
+        }
+    }
+
+    // Convert errors array
+    private static List<ApiError> toErrors(JsonNode errors) {
+        if (errors == null || !errors.isArray()) return List.of();
+        var apiErrors = new ArrayList<ApiError>(errors.size());
+        for (var error : errors) apiErrors.add(new ApiError(error.path("code").asInt(), error.path("message").asString()));
+        return apiErrors;
+    }
+
+    // Read result array of records
+    private static List<DnsRecord> readRecords(JsonParser parser) {
+        if (parser.currentToken() != JsonToken.START_ARRAY) throw new RuntimeException("Response body does not contain result array");
+        var records = new ArrayList<DnsRecord>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) records.add(new DnsRecord(parser));
+        return records;
+    }
+}
@@ -0,0 +1,69 @@
+package de.MCmoderSD.cloudflare.core;
+
+import de.MCmoderSD.cloudflare.exceptions.RateLimitException;
+import de.MCmoderSD.cloudflare.exceptions.ServerException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+@SuppressWarnings("unused")
+public class RetryPolicy {
+
+    // Presets
+    public static final RetryPolicy DEFAULT = new RetryPolicy(5, Duration.ofMillis(500), Duration.ofSeconds(30));
+    public static final RetryPolicy NONE = new RetryPolicy(1, Duration.ZERO, Duration.ZERO);
+
+    // Methods that can be repeated without side effects, PATCH only ever sets absolute values here
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "PUT", "PATCH", "DELETE");
+
+    // Attributes
+    private final int maxAttempts;
+    private final long baseDelay;
+    private final long maxDelay;
+
+    // Constructor
+    public RetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay) {
+
+        // Check parameters
+        if (maxAttempts < 1) throw new IllegalArgumentException("Max attempts must be at least 1");
+        if (baseDelay == null || baseDelay.isNegative()) throw new IllegalArgumentException("Base delay cannot be null or negative");
+        if (maxDelay == null || maxDelay.compareTo(baseDelay) < 0) throw new IllegalArgumentException("Max delay cannot be null or less than base delay");
+
+        // Set attributes
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = baseDelay.toNanos();
+        this.maxDelay = maxDelay.toNanos();
+    }
+
+    // Check if a failed attempt should be repeated
+    public boolean shouldRetry(String method, Throwable error, int attempt) {
+        if (attempt >= maxAttempts) return false;
+        if (error instanceof RateLimitException) return true; // Rejected before processing, safe for every method
+        if (!IDEMPOTENT_METHODS.contains(method)) return false;
+        return error instanceof ServerException || error instanceof IOException;
+    }
+
+    // Delay in nanoseconds before the next attempt, exponential with full jitter and at least Retry-After
+    public long delay(int attempt, Throwable error) {
+        var ceiling = Math.min(maxDelay, baseDelay << Math.min(attempt - 1, 30));
+        var delay = ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+        if (error instanceof RateLimitException rateLimitException && rateLimitException.getRetryAfter() != null) return Math.max(delay, rateLimitException.getRetryAfter().toNanos());
+        if (error instanceof ServerException serverException && serverException.getRetryAfter() != null) return Math.max(delay, serverException.getRetryAfter().toNanos());
+        return delay;
+    }
+
+    // Getters
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getBaseDelay() {
+        return Duration.ofNanos(baseDelay);
+    }
+
+    public Duration getMaxDelay() {
+        return Duration.ofNanos(maxDelay);
+    }
+}
@@ -0,0 +1,61 @@
+package de.MCmoderSD.cloudflare.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.CompletableFuture.failedFuture;
+
+// Shares one in-flight call between concurrent callers, optionally reusing its result for a short window
+final class SingleFlight<T> {
+
+    // State
+    private final AtomicReference<Flight<T>> current = new AtomicReference<>();
+
+    // Join the current call or start a new one, callers must not mutate the shared result
+    CompletableFuture<T> run(long windowNanos, Supplier<CompletableFuture<T>> call) {
+        while (true) {
+
+            // Join running call or a recent result
+            var flight = current.get();
+            if (flight != null && flight.isJoinable(windowNanos)) return flight.future;
+
+            // Start new call, losing the race means another caller just started one
+            var next = new Flight<T>();
+            if (!current.compareAndSet(flight, next)) continue;
+            CompletableFuture<T> result;
+            try {
+                result = call.get();
+            } catch (RuntimeException e) {
+                result = failedFuture(e);
+            }
+            result.whenComplete((value, throwable) -> {
+                if (throwable != null) current.compareAndSet(next, null); // Failures are shared with concurrent callers only
+                next.completedAt = System.nanoTime();
+                next.completed = true;
+                if (throwable == null) next.future.complete(value);
+                else next.future.completeExceptionally(throwable);
+            });
+            return next.future;
+        }
+    }
+
+    // Drop the current call so later callers see changes made after it started
+    void invalidate() {
+        current.set(null);
+    }
+
+    // One shared call
+    private static final class Flight<T> {
+
+        // Attributes
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private volatile long completedAt;
+        private volatile boolean completed;
+
+        // Check if a caller may still use this call
+        private boolean isJoinable(long windowNanos) {
+            return !completed || !future.isCompletedExceptionally() && System.nanoTime() - completedAt < windowNanos;
+        }
+    }
+}
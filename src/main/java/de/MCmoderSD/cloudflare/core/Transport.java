@@ -0,0 +1,270 @@
+package de.MCmoderSD.cloudflare.core;
+
+import de.MCmoderSD.cloudflare.enums.ApiOperation;
+import de.MCmoderSD.cloudflare.exceptions.ApiException;
+import de.MCmoderSD.cloudflare.exceptions.CircuitOpenException;
+import de.MCmoderSD.cloudflare.exceptions.DeadlineExceededException;
+import de.MCmoderSD.cloudflare.exceptions.RateLimitException;
+import de.MCmoderSD.cloudflare.exceptions.ServerException;
+import de.MCmoderSD.cloudflare.metrics.ApiMetrics;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+final class Transport {
+
+    // Credentials
+    private final String authorization;
+
+    // Endpoint
+    private final String baseUrl;
+    private final Duration requestTimeout;
+
+    // Shared attributes
+    final HttpClient client;
+    final ObjectMapper mapper;
+    final RateLimiter rateLimiter;
+
+    // Resilience
+    final RetryPolicy retryPolicy;
+    final CircuitBreaker circuitBreaker;
+
+    // Instrumentation
+    final ApiMetrics metrics;
+
+    // Statistics
+    private final AtomicLong retries;
+    private final AtomicLong failures;
+
+    // Constructor
+    Transport(String authorization, URI baseUri, Duration requestTimeout, HttpClient client, ObjectMapper mapper, RateLimiter rateLimiter, RetryPolicy retryPolicy, CircuitBreaker circuitBreaker, ApiMetrics metrics) {
+        this.authorization = authorization;
+        var base = baseUri.toString();
+        baseUrl = base.endsWith("/") ? base : base + "/";
+        this.requestTimeout = requestTimeout;
+        this.client = client;
+        this.mapper = mapper;
+        this.rateLimiter = rateLimiter;
+        this.retryPolicy = retryPolicy;
+        this.circuitBreaker = circuitBreaker;
+        this.metrics = metrics;
+        retries = new AtomicLong();
+        failures = new AtomicLong();
+    }
+
+    // Create Request
+    HttpRequest.Builder newRequest(String path) throws URISyntaxException {
+        var builder = HttpRequest.newBuilder(new URI(baseUrl + path))
+                .header("Authorization", authorization)
+                .header("Content-Type", "application/json");
+        var timeout = timeout(Deadline.current());
+        if (timeout != null) builder.timeout(timeout);
+        return builder;
+    }
+
+    // Request timeout, shortened to what is left of the deadline
+    private Duration timeout(Deadline deadline) {
+        if (deadline == null) return requestTimeout;
+        var remaining = deadline.remaining();
+        if (remaining.isZero()) remaining = Duration.ofNanos(1); // Expired deadlines fail before sending
+        return requestTimeout == null || remaining.compareTo(requestTimeout) < 0 ? remaining : requestTimeout;
+    }
+
+    // Send request through the rate limiter and circuit breaker, retrying transient failures
+    <T> CompletableFuture<T> send(ApiOperation operation, HttpRequest request, Function<HttpResponse<InputStream>, T> handler) {
+        return send(operation, request, handler, new AtomicInteger(), rateLimiter);
+    }
+
+    <T> CompletableFuture<T> send(ApiOperation operation, HttpRequest request, Function<HttpResponse<InputStream>, T> handler, AtomicInteger attempts, RateLimiter limiter) {
+        var result = new CompletableFuture<T>();
+        attempt(operation, request, handler, attempts, limiter, Deadline.current(), result);
+        return result;
+    }
+
+    // Wait for a rate limit permit, every attempt is one request against the API limit
+    private <T> void attempt(ApiOperation operation, HttpRequest request, Function<HttpResponse<InputStream>, T> handler, AtomicInteger attempts, RateLimiter limiter, Deadline deadline, CompletableFuture<T> result) {
+        if (isStopped(operation, deadline, result)) return;
+        var wait = limiter.reserve();
+        if (wait <= 0) dispatch(operation, request, handler, attempts, limiter, deadline, result);
+        else if (fitsDeadline(deadline, wait)) delayedExecutor(wait, NANOSECONDS).execute(() -> dispatch(operation, request, handler, attempts, limiter, deadline, result));
+        else fail(operation, new DeadlineExceededException(operation + " request"), result);
+    }
+
+    // Send one attempt of a request
+    private <T> void dispatch(ApiOperation operation, HttpRequest request, Function<HttpResponse<InputStream>, T> handler, AtomicInteger attempts, RateLimiter limiter, Deadline deadline, CompletableFuture<T> result) {
+
+        // Stop once the caller cancelled or ran out of time while waiting for the permit
+        if (isStopped(operation, deadline, result)) return;
+
+        // Fail fast while the API is degraded
+        var attempt = attempts.incrementAndGet();
+        if (!circuitBreaker.tryAcquire()) {
+            fail(operation, new CircuitOpenException(circuitBreaker.getRemainingOpen()), result);
+            return;
+        }
+
+        // Measure only when instrumentation is enabled
+        var measurement = metrics == ApiMetrics.NOOP ? null : new Measurement(metrics.onRequestStart(operation, request));
+
+        // Send request and handle the response as it arrives
+        CompletableFuture<T> call;
+        try {
+            var bodyHandler = measurement == null ? HttpResponse.BodyHandlers.ofInputStream() : measurement.bodyHandler();
+            var exchange = client.sendAsync(request, bodyHandler);
+            result.whenComplete((value, throwable) -> {
+                if (result.isCancelled()) exchange.cancel(true); // Abort the exchange when the caller cancels
+            });
+            call = exchange.thenApply(handler);
+        } catch (RuntimeException e) {
+            call = failedFuture(e);
+        }
+
+        call.whenComplete((value, throwable) -> {
+
+            // Report health, a timeout cut short by the caller's deadline says nothing about the API
+            var error = unwrap(throwable);
+            if (error instanceof HttpTimeoutException && deadline != null && deadline.isExpired()) error = new DeadlineExceededException(operation + " request");
+            if (isDegraded(error)) circuitBreaker.onFailure();
+            else circuitBreaker.onSuccess();
+            if (measurement != null) metrics.onRequestEnd(operation, measurement.context, measurement.statusCode, measurement.bytes, System.nanoTime() - measurement.start, error);
+
+            // Check result
+            var delay = error == null ? 0L : retryPolicy.delay(attempt, error);
+            if (error == null) result.complete(value);
+
+            // Back off and retry while the deadline allows it
+            else if (retryPolicy.shouldRetry(request.method(), error, attempt) && fitsDeadline(deadline, delay)) {
+                retries.incrementAndGet();
+                if (error instanceof RateLimitException) limiter.pause(Duration.ofNanos(delay)); // Hold back other requests sharing the limiter
+                metrics.onRetry(operation, attempt, error, delay);
+                delayedExecutor(delay, NANOSECONDS).execute(() -> attempt(operation, request, handler, attempts, limiter, deadline, result));
+            }
+
+            // Give up
+            else fail(operation, error, result);
+        });
+    }
+
+    // Stop once the caller cancelled or ran out of time
+    private boolean isStopped(ApiOperation operation, Deadline deadline, CompletableFuture<?> result) {
+        if (result.isDone()) return true;
+        if (deadline == null || !deadline.isExpired()) return false;
+        fail(operation, new DeadlineExceededException(operation + " request"), result);
+        return true;
+    }
+
+    // Fail request after all attempts
+    private void fail(ApiOperation operation, Throwable error, CompletableFuture<?> result) {
+        failures.incrementAndGet();
+        metrics.onFailure(operation, error);
+        result.completeExceptionally(error);
+    }
+
+    // Check if a retry after the delay can still finish in time
+    private static boolean fitsDeadline(Deadline deadline, long delay) {
+        return deadline == null || delay < deadline.remainingNanos();
+    }
+
+    // Check Response
+    void check(HttpResponse<InputStream> httpResponse) {
+        if (httpResponse == null) throw new RuntimeException("HTTP response is null");
+        if (httpResponse.statusCode() == 200) return;
+        throw ApiException.fromResponse(httpResponse, ResponseReader.readErrors(mapper, httpResponse.body()));
+    }
+
+    // Check if an error points to an unhealthy API rather than a bad request
+    private static boolean isDegraded(Throwable error) {
+        return error instanceof ServerException || error instanceof IOException;
+    }
+
+    // Unwrap completion exception
+    static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
+    // Discard response body
+    static void discard(InputStream body) {
+        try (body) {
+            body.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException ignored) {
+            // Connection is released either way
+        }
+    }
+
+    // Statistics
+    long getRetries() {
+        return retries.get();
+    }
+
+    long getFailures() {
+        return failures.get();
+    }
+
+    // Measurement of a single attempt
+    private static final class Measurement {
+
+        // Attributes
+        private final Object context;
+        private final long start;
+
+        // Response
+        private volatile int statusCode;
+        private volatile long bytes;
+
+        // Constructor
+        private Measurement(Object context) {
+            this.context = context;
+            start = System.nanoTime();
+        }
+
+        // Record status and count body bytes as the handler reads them
+        private HttpResponse.BodyHandler<InputStream> bodyHandler() {
+            return responseInfo -> {
+                statusCode = responseInfo.statusCode();
+                return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofInputStream(), CountingInputStream::new);
+            };
+        }
+
+        // Input stream class
+        private final class CountingInputStream extends FilterInputStream {
+
+            // Constructor
+            private CountingInputStream(InputStream inputStream) {
+                super(inputStream);
+            }
+
+            @Override
+            public int read() throws IOException {
+                var value = super.read();
+                if (value >= 0) bytes++;
+                return value;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                var count = super.read(buffer, offset, length);
+                if (count > 0) bytes += count;
+                return count;
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package de.MCmoderSD.cloudflare.core;
+
+import de.MCmoderSD.cloudflare.metrics.ApiMetrics;
+import tools.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+@SuppressWarnings({"unused", "unchecked"})
+public abstract class TransportBuilder<B extends TransportBuilder<B>> {
+
+    // Defaults
+    public static final URI DEFAULT_BASE_URI = URI.create("https://api.cloudflare.com/client/v4/");
+
+    // Credentials
+    private final String authorization;
+
+    // Builder attributes
+    private URI baseUri = DEFAULT_BASE_URI;
+    private HttpClient httpClient;
+    private Executor executor;
+    private Duration connectTimeout;
+    private Duration requestTimeout;
+    private HttpClient.Version version;
+    private RetryPolicy retryPolicy = RetryPolicy.DEFAULT;
+    private CircuitBreaker circuitBreaker;
+    private ApiMetrics metrics = ApiMetrics.NOOP;
+
+    // Constructor
+    protected TransportBuilder(String apiToken) {
+        authorization = CloudflareClient.authorization(apiToken);
+    }
+
+    // Setters
+    public B baseUri(URI baseUri) {
+        if (baseUri == null) throw new IllegalArgumentException("Base URI cannot be null");
+        if (!baseUri.isAbsolute()) throw new IllegalArgumentException("Base URI must be absolute");
+        this.baseUri = baseUri;
+        return (B) this;
+    }
+
+    public B baseUri(String baseUri) {
+        if (baseUri == null || baseUri.isBlank()) throw new IllegalArgumentException("Base URI cannot be null or blank");
+        return baseUri(URI.create(baseUri));
+    }
+
+    public B httpClient(HttpClient httpClient) {
+        if (httpClient == null) throw new IllegalArgumentException("HTTP client cannot be null");
+        this.httpClient = httpClient;
+        return (B) this;
+    }
+
+    public B executor(Executor executor) {
+        if (executor == null) throw new IllegalArgumentException("Executor cannot be null");
+        this.executor = executor;
+        return (B) this;
+    }
+
+    public B connectTimeout(Duration connectTimeout) {
+        if (connectTimeout == null || connectTimeout.isNegative() || connectTimeout.isZero()) throw new IllegalArgumentException("Connect timeout must be positive");
+        this.connectTimeout = connectTimeout;
+        return (B) this;
+    }
+
+    public B requestTimeout(Duration requestTimeout) {
+        if (requestTimeout == null || requestTimeout.isNegative() || requestTimeout.isZero()) throw new IllegalArgumentException("Request timeout must be positive");
+        this.requestTimeout = requestTimeout;
+        return (B) this;
+    }
+
+    public B version(HttpClient.Version version) {
+        if (version == null) throw new IllegalArgumentException("Version cannot be null");
+        this.version = version;
+        return (B) this;
+    }
+
+    public B retryPolicy(RetryPolicy retryPolicy) {
+        if (retryPolicy == null) throw new IllegalArgumentException("Retry policy cannot be null");
+        this.retryPolicy = retryPolicy;
+        return (B) this;
+    }
+
+    // Breakers can be shared to fail fast across several accounts or clients
+    public B circuitBreaker(CircuitBreaker circuitBreaker) {
+        if (circuitBreaker == null) throw new IllegalArgumentException("Circuit breaker cannot be null");
+        this.circuitBreaker = circuitBreaker;
+        return (B) this;
+    }
+
+    public B metrics(ApiMetrics metrics) {
+        if (metrics == null) throw new IllegalArgumentException("Metrics cannot be null");
+        this.metrics = metrics;
+        return (B) this;
+    }
+
+    // Build transport
+    Transport buildTransport() {
+
+        // A custom client already carries its own settings
+        if (httpClient != null && (executor != null || connectTimeout != null || version != null)) throw new IllegalStateException("Executor, connect timeout and version cannot be combined with a custom HTTP client");
+
+        // Create HTTP client
+        var client = httpClient;
+        if (client == null) {
+            var builder = HttpClient.newBuilder().version(version == null ? HttpClient.Version.HTTP_2 : version);
+            if (executor != null) builder.executor(executor);
+            if (connectTimeout != null) builder.connectTimeout(connectTimeout);
+            client = builder.build();
+        }
+
+        // Return transport
+        var rateLimiter = new RateLimiter(CloudflareClient.DEFAULT_RATE_LIMIT / 300, Duration.ofSeconds(1));
+        return new Transport(authorization, baseUri, requestTimeout, client, new ObjectMapper(), rateLimiter, retryPolicy, circuitBreaker == null ? new CircuitBreaker() : circuitBreaker, metrics);
+    }
+}
@@ -0,0 +1,301 @@
+package de.MCmoderSD.cloudflare.core;
+
+import de.MCmoderSD.cloudflare.enums.RecordType;
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+import de.MCmoderSD.cloudflare.objects.ModifiedRecord;
+import de.MCmoderSD.cloudflare.objects.ZoneSnapshot;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@SuppressWarnings({"unused", "UnusedReturnValue"})
+public class ZoneCache {
+
+    // Defaults
+    public static final Duration DEFAULT_MAX_STALENESS = Duration.ofMinutes(1);
+
+    // Attributes
+    private final CloudflareClient client;
+    private final long maxStaleness;
+
+    // Statistics
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+
+    // State
+    private volatile Snapshot snapshot;
+    private CompletableFuture<Snapshot> loading; // Guarded by this
+    private final List<Consumer<Snapshot>> pending; // Patches made while loading, guarded by this
+
+    // Constructors
+    public ZoneCache(CloudflareClient client) {
+        this(client, DEFAULT_MAX_STALENESS);
+    }
+
+    public ZoneCache(CloudflareClient client, Duration maxStaleness) {
+
+        // Check parameters
+        if (client == null) throw new IllegalArgumentException("Client cannot be null");
+        if (maxStaleness == null || maxStaleness.isNegative()) throw new IllegalArgumentException("Max staleness cannot be null or negative");
+
+        // Set attributes
+        this.client = client;
+        this.maxStaleness = maxStaleness.toNanos();
+
+        // Initialize statistics
+        hits = new AtomicLong();
+        misses = new AtomicLong();
+
+        // Initialize state
+        pending = new ArrayList<>();
+    }
+
+    // Get current snapshot, reloading it when missing or stale
+    private Snapshot snapshot() {
+
+        // Serve fresh snapshot
+        var current = snapshot;
+        if (isFresh(current)) {
+            hits.incrementAndGet();
+            return current;
+        }
+
+        // Join the running load or start one, the lock is only held to decide
+        CompletableFuture<Snapshot> load;
+        var owner = false;
+        synchronized (this) {
+            current = snapshot;
+            if (isFresh(current)) {
+                hits.incrementAndGet();
+                return current;
+            }
+            misses.incrementAndGet();
+            if (loading == null) {
+                loading = new CompletableFuture<>();
+                owner = true;
+            }
+            load = loading;
+        }
+        if (owner) return load(load);
+        return CloudflareClient.await(load.copy(), "Failed to load DNS records"); // Giving up must not cancel the shared load
+    }
+
+    // Load the zone without holding the lock, readers keep the old snapshot meanwhile
+    private Snapshot load(CompletableFuture<Snapshot> load) {
+        var loaded = new Snapshot();
+        try {
+            client.forEachRecord(client.getReadPageSize(), loaded::load);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                if (loading == load) detach();
+            }
+            load.completeExceptionally(e);
+            throw e;
+        }
+
+        // Publish unless invalidated meanwhile, writes made during the load are replayed onto it
+        synchronized (this) {
+            if (loading == load) {
+                pending.forEach(change -> change.accept(loaded));
+                detach();
+                snapshot = loaded;
+            }
+        }
+        load.complete(loaded);
+        return loaded;
+    }
+
+    // Forget the running load, its result is not published
+    private void detach() {
+        loading = null;
+        pending.clear();
+    }
+
+    // Check if a snapshot can be served
+    private boolean isFresh(Snapshot current) {
+        return current != null && System.nanoTime() - current.loadedAt <= maxStaleness;
+    }
+
+    // Lookups
+    public DnsRecord getRecord(String id) {
+        if (id == null || id.isBlank()) throw new IllegalArgumentException("Record ID cannot be null or blank");
+        return snapshot().byId.get(id);
+    }
+
+    public List<DnsRecord> getRecords(String name, RecordType type) {
+        if (name == null || name.isBlank()) throw new IllegalArgumentException("Name cannot be null or blank");
+        if (type == null) throw new IllegalArgumentException("Type cannot be null");
+        return Collections.unmodifiableList(snapshot().byNameType.getOrDefault(key(name, type), List.of()));
+    }
+
+    public List<DnsRecord> getRecordsByContent(String content) {
+        if (content == null || content.isBlank()) throw new IllegalArgumentException("Content cannot be null or blank");
+        return Collections.unmodifiableList(snapshot().byContent.getOrDefault(contentKey(content), List.of()));
+    }
+
+    public Collection<DnsRecord> getRecords() {
+        return Collections.unmodifiableCollection(snapshot().byId.values());
+    }
+
+    // Write through and patch the snapshot in place
+    public DnsRecord createRecord(ObjectNode record) {
+        var createdRecord = client.createRecord(record);
+        patch(null, createdRecord);
+        return createdRecord;
+    }
+
+    public boolean updateRecord(ModifiedRecord modifiedRecord) {
+        var updatedRecord = CloudflareClient.await(client.updateAndGetAsync(modifiedRecord), "Failed to update DNS record");
+        if (updatedRecord == null) invalidate();
+        else patch(modifiedRecord.getId(), updatedRecord);
+        return updatedRecord != null;
+    }
+
+    public boolean deleteRecord(DnsRecord dnsRecord) {
+        var deleted = client.deleteRecord(dnsRecord);
+        if (deleted) patch(dnsRecord.getId(), null);
+        else invalidate();
+        return deleted;
+    }
+
+    // Replace or remove a single record
+    private synchronized void patch(String id, DnsRecord record) {
+        Consumer<Snapshot> change = target -> {
+            if (id != null) target.remove(id);
+            if (record != null) target.add(record);
+        };
+        if (loading != null) pending.add(change); // The running load may have read the zone before this write
+        if (snapshot != null) change.accept(snapshot);
+    }
+
+    // Drop snapshot and any running load, the next lookup reloads the zone
+    public synchronized void invalidate() {
+        snapshot = null;
+        detach();
+    }
+
+    // Reload snapshot now
+    public void refresh() {
+        invalidate();
+        snapshot();
+    }
+
+    // Install a persisted snapshot, served until it is older than the max staleness counted from its capture time
+    public synchronized void warm(ZoneSnapshot zoneSnapshot) {
+        if (zoneSnapshot == null) throw new IllegalArgumentException("Zone snapshot cannot be null");
+        if (!zoneSnapshot.getZoneId().equals(client.getZoneId())) throw new IllegalArgumentException("Zone snapshot belongs to zone " + zoneSnapshot.getZoneId());
+        var age = Math.clamp(Duration.between(zoneSnapshot.getCapturedAt(), Instant.now()).toMillis(), 0, Long.MAX_VALUE / 2_000_000); // Capped so the nanosecond clock cannot overflow
+        var loaded = new Snapshot(System.nanoTime() - age * 1_000_000);
+        zoneSnapshot.getRecords().forEach(loaded::load);
+        detach();
+        snapshot = loaded;
+    }
+
+    // Capture current records for persisting, loading them first if needed
+    public ZoneSnapshot toSnapshot() {
+        return new ZoneSnapshot(client.getZoneId(), snapshot().byId.values());
+    }
+
+    // Statistics
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public double getHitRate() {
+        var total = hits.get() + misses.get();
+        return total == 0 ? 0 : hits.get() / (double) total;
+    }
+
+    public void resetStatistics() {
+        hits.set(0);
+        misses.set(0);
+    }
+
+    // Build name and type key
+    private static String key(String name, RecordType type) {
+        return type.name() + ' ' + name.toLowerCase(Locale.ROOT);
+    }
+
+    // Build content key, getContent quotes content with spaces so raw and quoted values share one key
+    private static String contentKey(String content) {
+        return content.length() > 1 && content.startsWith("\"") && content.endsWith("\"") ? content.substring(1, content.length() - 1) : content;
+    }
+
+    // Snapshot class
+    private static final class Snapshot {
+
+        // Indexes
+        private final Map<String, DnsRecord> byId = new ConcurrentHashMap<>();
+        private final Map<String, List<DnsRecord>> byNameType = new ConcurrentHashMap<>();
+        private final Map<String, List<DnsRecord>> byContent = new ConcurrentHashMap<>();
+
+        // Load time
+        private final long loadedAt;
+
+        // Constructors
+        private Snapshot() {
+            this(System.nanoTime());
+        }
+
+        private Snapshot(long loadedAt) {
+            this.loadedAt = loadedAt;
+        }
+
+        // Index record while loading, before the snapshot is visible
+        private void load(DnsRecord record) {
+            var previous = byId.put(record.getId(), record);
+            if (previous != null) unindex(previous); // Record moved between pages while loading
+            byNameType.computeIfAbsent(key(record.getName(), record.getType()), key -> new ArrayList<>(1)).add(record);
+            byContent.computeIfAbsent(contentKey(record.getContent()), key -> new ArrayList<>(1)).add(record);
+        }
+
+        // Index record in a published snapshot
+        private void add(DnsRecord record) {
+            var previous = byId.put(record.getId(), record);
+            if (previous != null) unindex(previous);
+            byNameType.compute(key(record.getName(), record.getType()), (key, records) -> with(records, record));
+            byContent.compute(contentKey(record.getContent()), (key, records) -> with(records, record));
+        }
+
+        // Remove record from all indexes
+        private void remove(String id) {
+            var previous = byId.remove(id);
+            if (previous != null) unindex(previous);
+        }
+
+        private void unindex(DnsRecord record) {
+            byNameType.computeIfPresent(key(record.getName(), record.getType()), (key, records) -> without(records, record));
+            byContent.computeIfPresent(contentKey(record.getContent()), (key, records) -> without(records, record));
+        }
+
+        // Copy-on-write lists, readers never see a list being modified
+        private static List<DnsRecord> with(List<DnsRecord> records, DnsRecord record) {
+            if (records == null) return List.of(record);
+            var copy = new ArrayList<DnsRecord>(records.size() + 1);
+            copy.addAll(records);
+            copy.add(record);
+            return copy;
+        }
+
+        private static List<DnsRecord> without(List<DnsRecord> records, DnsRecord record) {
+            var copy = new ArrayList<DnsRecord>(records.size());
+            for (var entry : records) if (!entry.getId().equals(record.getId())) copy.add(entry);
+            return copy.isEmpty() ? null : copy;
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package de.MCmoderSD.cloudflare.core;
+
+import de.MCmoderSD.cloudflare.enums.RecordType;
+import de.MCmoderSD.cloudflare.objects.ZoneFileRecord;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+// Streaming parser for BIND master files, one entry is held in memory at a time
+@SuppressWarnings("unused")
+public class ZoneFileParser implements Iterator<ZoneFileRecord>, AutoCloseable {
+
+    // Constants
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String PROXIED_TAG = "cf-proxied:true";
+
+    // Attributes
+    private final BufferedReader reader;
+
+    // Directives
+    private String origin;
+    private int defaultTtl;
+
+    // State
+    private final ArrayList<String> tokens;
+    private String comment;
+    private boolean ownerOmitted;
+    private String lastOwner;
+    private int lastTtl;
+    private int lineNumber;
+    private int entryLine;
+    private int skipped;
+    private ZoneFileRecord next;
+
+    // Constructor
+    public ZoneFileParser(Reader reader, String origin) {
+
+        // Check reader
+        if (reader == null) throw new IllegalArgumentException("Reader cannot be null");
+
+        // Set attributes
+        this.reader = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader, BUFFER_SIZE);
+        this.origin = origin == null || origin.isBlank() ? null : stripDot(origin.trim());
+
+        // Initialize state
+        tokens = new ArrayList<>();
+        defaultTtl = -1;
+        lastTtl = ZoneFileRecord.AUTOMATIC_TTL;
+    }
+
+    // Open zone file
+    public static ZoneFileParser open(Path path, String origin) throws IOException {
+        if (path == null) throw new IllegalArgumentException("Path cannot be null");
+        return new ZoneFileParser(Files.newBufferedReader(path, UTF_8), origin);
+    }
+
+    // Stream zone file, closing the stream closes the file
+    public static Stream<ZoneFileRecord> stream(Path path, String origin) throws IOException {
+        var parser = open(path, origin);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(parser, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(parser::close);
+    }
+
+    // Parse whole zone file
+    public static List<ZoneFileRecord> parse(Path path, String origin) throws IOException {
+        try (var records = stream(path, origin)) {
+            return records.toList();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && readEntry()) next = parseEntry();
+        return next != null;
+    }
+
+    @Override
+    public ZoneFileRecord next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        var record = next;
+        next = null;
+        return record;
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close zone file", e);
+        }
+    }
+
+    // Read tokens of the next entry, following parentheses across lines
+    private boolean readEntry() {
+        tokens.clear();
+        comment = null;
+        var depth = 0;
+        String line;
+        while ((line = readLine()) != null) {
+
+            // Owner is inherited when the entry starts with whitespace
+            if (tokens.isEmpty() && depth == 0) {
+                ownerOmitted = !line.isEmpty() && (line.charAt(0) == ' ' || line.charAt(0) == '\t');
+                entryLine = lineNumber;
+            }
+
+            // Entry is complete outside of parentheses, blank and comment lines are skipped
+            depth = tokenize(line, depth);
+            if (depth == 0 && !tokens.isEmpty()) return true;
+        }
+        if (depth > 0) throw error("Unbalanced parentheses");
+        return false;
+    }
+
+    // Split line into tokens, quoted strings keep their quotes
+    private int tokenize(String line, int depth) {
+        var length = line.length();
+        var i = 0;
+        while (i < length) {
+            var c = line.charAt(i);
+            if (c == ' ' || c == '\t' || c == '\r') i++;
+            else if (c == ';') {
+                comment = line.substring(i + 1).trim();
+                break;
+            } else if (c == '(') {
+                depth++;
+                i++;
+            } else if (c == ')') {
+                if (depth == 0) throw error("Unbalanced parentheses");
+                depth--;
+                i++;
+            } else if (c == '"') {
+                var start = i++;
+                while (i < length && line.charAt(i) != '"') i += line.charAt(i) == '\\' ? 2 : 1;
+                if (i >= length) throw error("Unterminated quoted string");
+                tokens.add(line.substring(start, ++i));
+            } else {
+                var start = i;
+                while (i < length && !isDelimiter(c = line.charAt(i))) i += c == '\\' ? 2 : 1;
+                tokens.add(line.substring(start, Math.min(i, length)));
+            }
+        }
+        return depth;
+    }
+
+    // Check for token delimiter
+    private static boolean isDelimiter(char c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == ';' || c == '(' || c == ')' || c == '"';
+    }
+
+    // Parse tokens of an entry, null for directives and skipped records
+    private ZoneFileRecord parseEntry() {
+
+        // Directives
+        var first = tokens.getFirst();
+        if (!ownerOmitted && first.startsWith("$")) {
+            directive(first.toUpperCase(Locale.ROOT));
+            return null;
+        }
+
+        // Owner name
+        var index = 0;
+        String owner;
+        if (!ownerOmitted) {
+            owner = qualify(first);
+            index++;
+        } else if (lastOwner == null) throw error("Record has no owner name");
+        else owner = lastOwner;
+        lastOwner = owner;
+
+        // TTL and class in either order
+        var ttl = defaultTtl >= 0 ? defaultTtl : lastTtl;
+        for (var field = 0; field < 2 && index < tokens.size(); field++) {
+            var token = tokens.get(index);
+            if (Character.isDigit(token.charAt(0))) {
+                ttl = parseTtl(token);
+                lastTtl = ttl;
+            } else if (isClass(token)) {
+                if (!token.equalsIgnoreCase("IN")) throw error("Unsupported class " + token);
+            } else break;
+            index++;
+        }
+
+        // Type, SOA is managed by Cloudflare
+        if (index >= tokens.size()) throw error("Record type is missing");
+        var typeName = tokens.get(index++).toUpperCase(Locale.ROOT);
+        if (typeName.equals("SOA")) {
+            skipped++;
+            return null;
+        }
+        RecordType type;
+        try {
+            type = RecordType.fromString(typeName);
+        } catch (IllegalArgumentException e) {
+            throw error("Unknown record type " + typeName);
+        }
+
+        // Data
+        if (index >= tokens.size()) throw error("Record data is missing");
+        var proxied = comment != null && comment.contains(PROXIED_TAG);
+        return new ZoneFileRecord(owner, type, ttl, content(type, index), proxied, entryLine);
+    }
+
+    // Apply directive
+    private void directive(String directive) {
+        switch (directive) {
+            case "$ORIGIN" -> {
+                if (tokens.size() != 2) throw error("$ORIGIN requires a domain name");
+                origin = qualify(tokens.get(1));
+            }
+            case "$TTL" -> {
+                if (tokens.size() != 2) throw error("$TTL requires a value");
+                defaultTtl = parseTtl(tokens.get(1));
+            }
+            case "$INCLUDE" -> throw error("$INCLUDE is not supported");
+            default -> throw error("Unknown directive " + directive);
+        }
+    }
+
+    // Build content in the API's format, domain name fields are made absolute
+    private String content(RecordType type, int from) {
+        return switch (type) {
+            case TXT -> text(from);
+            case CNAME, NS, PTR -> {
+                if (tokens.size() - from != 1) throw error(type + " record requires a single domain name");
+                yield qualify(tokens.get(from));
+            }
+            case MX, HTTPS, SVCB -> join(from, 1);
+            case SRV -> join(from, 3);
+            case NAPTR -> join(from, 5);
+            default -> join(from, -1);
+        };
+    }
+
+    // Join data tokens, qualifying the domain name at the given field
+    private String join(int from, int nameField) {
+        var builder = new StringBuilder();
+        for (var i = from; i < tokens.size(); i++) {
+            if (i > from) builder.append(' ');
+            var token = tokens.get(i);
+            builder.append(i - from == nameField ? qualify(token) : token);
+        }
+        return builder.toString();
+    }
+
+    // Concatenate character strings, resolving escapes
+    private String text(int from) {
+        var builder = new StringBuilder();
+        var bytes = new ByteArrayOutputStream();
+        for (var i = from; i < tokens.size(); i++) {
+            var token = tokens.get(i);
+            var quoted = token.length() >= 2 && token.charAt(0) == '"';
+            var end = quoted ? token.length() - 1 : token.length();
+            for (var j = quoted ? 1 : 0; j < end; j++) {
+                var c = token.charAt(j);
+
+                // Decimal escapes are bytes of UTF-8 text
+                if (c == '\\' && j + 3 < end && isDigits(token, j + 1, 3)) {
+                    bytes.write(Integer.parseInt(token, j + 1, j + 4, 10));
+                    j += 3;
+                    continue;
+                }
+
+                // Flush pending bytes before a regular character
+                flush(builder, bytes);
+                if (c == '\\' && j + 1 < end) c = token.charAt(++j);
+                builder.append(c);
+            }
+            flush(builder, bytes);
+        }
+        return builder.toString();
+    }
+
+    // Append decoded bytes
+    private static void flush(StringBuilder builder, ByteArrayOutputStream bytes) {
+        if (bytes.size() == 0) return;
+        builder.append(bytes.toString(UTF_8));
+        bytes.reset();
+    }
+
+    // Check for digits
+    private static boolean isDigits(String value, int from, int count) {
+        if (from + count > value.length()) return false;
+        for (var i = from; i < from + count; i++) if (!Character.isDigit(value.charAt(i))) return false;
+        return true;
+    }
+
+    // Make name absolute, without the trailing dot the API uses
+    private String qualify(String name) {
+        if (name.equals("@")) {
+            if (origin == null) throw error("@ requires an origin");
+            return origin;
+        }
+        if (name.endsWith(".")) return stripDot(name);
+        if (origin == null) throw error("Relative name " + name + " requires an origin");
+        return name + "." + origin;
+    }
+
+    // Remove trailing dot, the root stays as is
+    private static String stripDot(String name) {
+        return name.length() > 1 && name.endsWith(".") ? name.substring(0, name.length() - 1) : name;
+    }
+
+    // Check for class
+    private static boolean isClass(String token) {
+        return token.equalsIgnoreCase("IN") || token.equalsIgnoreCase("CH") || token.equalsIgnoreCase("HS") || token.equalsIgnoreCase("CS");
+    }
+
+    // Parse TTL in seconds or with BIND units like 1h30m
+    private int parseTtl(String token) {
+        var total = 0L;
+        var value = 0L;
+        var digits = false;
+        for (var i = 0; i < token.length(); i++) {
+            var c = token.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + c - '0';
+                digits = true;
+            } else {
+                var unit = switch (Character.toLowerCase(c)) {
+                    case 's' -> 1;
+                    case 'm' -> 60;
+                    case 'h' -> 3600;
+                    case 'd' -> 86400;
+                    case 'w' -> 604800;
+                    default -> throw error("Invalid TTL " + token);
+                };
+                if (!digits) throw error("Invalid TTL " + token);
+                total += value * unit;
+                value = 0;
+                digits = false;
+            }
+            if (total + value > Integer.MAX_VALUE) throw error("TTL is too large: " + token);
+        }
+        return (int) (total + value);
+    }
+
+    // Read line
+    private String readLine() {
+        try {
+            var line = reader.readLine();
+            if (line != null) lineNumber++;
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read zone file", e);
+        }
+    }
+
+    // Build error for the current entry
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("Line " + entryLine + ": " + message);
+    }
+
+    // Getters
+    public String getOrigin() {
+        return origin;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+}
@@ -0,0 +1,23 @@
+package de.MCmoderSD.cloudflare.core;
+
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+
+@SuppressWarnings("unused")
+public interface ZoneListener {
+
+    // Record appeared since the last poll
+    default void onCreated(DnsRecord record) {
+    }
+
+    // Record was modified since the last poll
+    default void onUpdated(DnsRecord previous, DnsRecord current) {
+    }
+
+    // Record disappeared since the last poll
+    default void onDeleted(DnsRecord record) {
+    }
+
+    // Poll failed, the watcher keeps polling at the maximum interval
+    default void onError(Throwable error) {
+    }
+}
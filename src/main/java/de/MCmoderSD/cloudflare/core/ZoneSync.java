@@ -0,0 +1,140 @@
+package de.MCmoderSD.cloudflare.core;
+
+import de.MCmoderSD.cloudflare.enums.RecordType;
+import de.MCmoderSD.cloudflare.objects.BulkResult;
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+import de.MCmoderSD.cloudflare.objects.ModifiedRecord;
+import de.MCmoderSD.cloudflare.objects.ZonePlan;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Objects;
+
+@SuppressWarnings({"unused", "UnusedReturnValue"})
+public class ZoneSync {
+
+    // Attributes
+    private final CloudflareClient client;
+
+    // Constructor
+    public ZoneSync(CloudflareClient client) {
+        if (client == null) throw new IllegalArgumentException("Client cannot be null");
+        this.client = client;
+    }
+
+    // Plan changes against the live zone
+    public ZonePlan plan(Collection<DnsRecord.Builder> desiredRecords) {
+        return plan(client.getRecords(), desiredRecords);
+    }
+
+    // Plan changes against the given records
+    public static ZonePlan plan(Collection<? extends DnsRecord> currentRecords, Collection<DnsRecord.Builder> desiredRecords) {
+
+        // Check parameters
+        if (currentRecords == null || currentRecords.stream().anyMatch(Objects::isNull)) throw new IllegalArgumentException("Current records cannot be null or contain null");
+        if (desiredRecords == null || desiredRecords.stream().anyMatch(Objects::isNull)) throw new IllegalArgumentException("Desired records cannot be null or contain null");
+
+        // Index current records by (name, type, content)
+        var current = new HashMap<String, ArrayDeque<DnsRecord>>(currentRecords.size() * 4 / 3 + 1);
+        for (var record : currentRecords) current.computeIfAbsent(identity(record.getName(), record.getType(), content(record)), key -> new ArrayDeque<>(1)).add(record);
+
+        // Match desired records by identity
+        var creates = new ArrayList<DnsRecord.Builder>();
+        var updates = new ArrayList<ModifiedRecord>();
+        var unmatched = new ArrayList<DnsRecord.Builder>();
+        var unchanged = 0;
+        for (var desired : desiredRecords) {
+            if (desired.getName() == null || desired.getContent() == null) throw new IllegalArgumentException("Desired records require name and content");
+            var matches = current.get(identity(desired.getName(), desired.getType(), desired.getContent()));
+            var record = matches == null ? null : matches.poll();
+            if (record == null) unmatched.add(desired);
+            else if (differs(record, desired)) updates.add(modify(record, desired));
+            else unchanged++;
+        }
+
+        // Index leftover records by (name, type)
+        var leftover = new HashMap<String, ArrayDeque<DnsRecord>>();
+        for (var matches : current.values()) for (var record : matches) leftover.computeIfAbsent(slot(record.getName(), record.getType()), key -> new ArrayDeque<>(1)).add(record);
+
+        // Turn a delete plus a create of the same name and type into one content update
+        for (var desired : unmatched) {
+            var matches = leftover.get(slot(desired.getName(), desired.getType()));
+            var record = matches == null ? null : matches.poll();
+            if (record == null) creates.add(desired);
+            else updates.add(modify(record, desired));
+        }
+
+        // Delete everything that is left
+        var deletes = new ArrayList<DnsRecord>();
+        for (var matches : leftover.values()) deletes.addAll(matches);
+
+        // Return plan
+        return new ZonePlan(creates, updates, deletes, unchanged);
+    }
+
+    // Apply plan in as few batch requests as possible
+    public BulkResult apply(ZonePlan plan) {
+        if (plan == null) throw new IllegalArgumentException("Plan cannot be null");
+        return client.applyBatch(plan.getCreates().stream().map(DnsRecord.Builder::buildJson).toList(), plan.getUpdates(), plan.getDeletes());
+    }
+
+    // Plan and apply in one step
+    public BulkResult sync(Collection<DnsRecord.Builder> desiredRecords) {
+        return apply(plan(desiredRecords));
+    }
+
+    // Check mutable attributes, server-owned fields are ignored
+    private static boolean differs(DnsRecord record, DnsRecord.Builder desired) {
+        return ttlDiffers(record, desired)
+                || proxyDiffers(record, desired)
+                || !Objects.equals(normalize(record.getComment()), normalize(desired.getComment()));
+    }
+
+    // Proxied records always keep the automatic TTL, so their TTL is never compared
+    private static boolean ttlDiffers(DnsRecord record, DnsRecord.Builder desired) {
+        return !proxied(record, desired) && record.getTtl() != desired.getTtl();
+    }
+
+    private static boolean proxyDiffers(DnsRecord record, DnsRecord.Builder desired) {
+        return record.isProxied() != proxied(record, desired);
+    }
+
+    // Proxy state the record ends up with, records the API marks as not proxiable keep theirs
+    private static boolean proxied(DnsRecord record, DnsRecord.Builder desired) {
+        return record.isProxiable() ? desired.isProxied() : record.isProxied();
+    }
+
+    // Build update towards the desired state
+    private static ModifiedRecord modify(DnsRecord record, DnsRecord.Builder desired) {
+        var modifiedRecord = new ModifiedRecord(record);
+        if (!content(record).equals(desired.getContent())) {
+            if (desired.getData() != null) modifiedRecord.modifyData(desired.getData());
+            else modifiedRecord.modifyContent(desired.getContent());
+        }
+        if (ttlDiffers(record, desired)) modifiedRecord.modifyTtl(desired.getTtl());
+        if (proxyDiffers(record, desired)) modifiedRecord.modifyProxy(desired.isProxied());
+        if (!Objects.equals(normalize(record.getComment()), normalize(desired.getComment()))) modifiedRecord.modifyComment(normalize(desired.getComment()));
+        return modifiedRecord;
+    }
+
+    // Compare structured types by their data, the API's content omits fields like the MX priority
+    private static String content(DnsRecord record) {
+        return record.getData() == null ? record.getContent() : record.getData().toContent();
+    }
+
+    // Keys
+    private static String identity(String name, RecordType type, String content) {
+        return slot(name, type) + ' ' + content;
+    }
+
+    private static String slot(String name, RecordType type) {
+        return type.name() + ' ' + name.toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalize(String comment) {
+        return comment == null ? "" : comment;
+    }
+}
@@ -0,0 +1,236 @@
+package de.MCmoderSD.cloudflare.core;
+
+import de.MCmoderSD.cloudflare.objects.DnsRecord;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+@SuppressWarnings({"unused", "UnusedReturnValue"})
+public class ZoneWatcher implements AutoCloseable {
+
+    // Defaults
+    public static final Duration DEFAULT_MIN_INTERVAL = Duration.ofSeconds(15);
+    public static final Duration DEFAULT_MAX_INTERVAL = Duration.ofMinutes(5);
+    public static final int DEFAULT_MAX_RECORDS = 100000;
+    private static final int POLL_PAGE_SIZE = 5000;
+
+    // Attributes
+    private final long minInterval;
+    private final long maxInterval;
+    private final int maxRecords;
+    private final int pageSize;
+
+    // Scheduler shared by all watched zones
+    private final ScheduledExecutorService scheduler;
+    private final Set<Watch> watches;
+
+    // Constructors
+    public ZoneWatcher() {
+        this(DEFAULT_MIN_INTERVAL, DEFAULT_MAX_INTERVAL, DEFAULT_MAX_RECORDS);
+    }
+
+    public ZoneWatcher(Duration minInterval, Duration maxInterval) {
+        this(minInterval, maxInterval, DEFAULT_MAX_RECORDS);
+    }
+
+    public ZoneWatcher(Duration minInterval, Duration maxInterval, int maxRecords) {
+
+        // Check parameters
+        if (minInterval == null || minInterval.isNegative() || minInterval.isZero()) throw new IllegalArgumentException("Min interval must be positive");
+        if (maxInterval == null || maxInterval.compareTo(minInterval) < 0) throw new IllegalArgumentException("Max interval cannot be null or less than min interval");
+        if (maxRecords < 1) throw new IllegalArgumentException("Max records must be at least 1");
+
+        // Set attributes
+        this.minInterval = minInterval.toNanos();
+        this.maxInterval = maxInterval.toNanos();
+        this.maxRecords = maxRecords;
+        pageSize = Math.clamp(maxRecords + 1L, CloudflareClient.MIN_PAGE_SIZE, POLL_PAGE_SIZE); // A zone over the cap is detected after at most one page past it
+
+        // Single daemon thread schedules polls and delivers events, requests run on the HTTP client
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "ZoneWatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        watches = ConcurrentHashMap.newKeySet();
+    }
+
+    // Start watching a zone, the first poll only records the baseline
+    public Watch watch(CloudflareClient client, ZoneListener listener) {
+
+        // Check parameters
+        if (client == null) throw new IllegalArgumentException("Client cannot be null");
+        if (listener == null) throw new IllegalArgumentException("Listener cannot be null");
+        if (scheduler.isShutdown()) throw new IllegalStateException("Watcher is closed");
+
+        // Schedule first poll
+        var watch = new Watch(client, listener);
+        watches.add(watch);
+        scheduler.execute(watch::poll);
+        return watch;
+    }
+
+    // Get watched zones
+    public List<Watch> getWatches() {
+        return List.copyOf(watches);
+    }
+
+    // Stop all watches
+    @Override
+    public void close() {
+        for (var watch : watches) watch.close();
+        scheduler.shutdownNow();
+    }
+
+    // Watch class
+    public final class Watch implements AutoCloseable {
+
+        // Attributes
+        private final CloudflareClient client;
+        private final ZoneListener listener;
+
+        // State, only touched on the scheduler thread
+        private HashMap<String, DnsRecord> snapshot;
+        private ScheduledFuture<?> scheduled;
+        private boolean polling;
+        private volatile long interval;
+        private volatile boolean closed;
+
+        // Statistics
+        private volatile long polls;
+        private volatile long events;
+        private volatile int recordCount;
+
+        // Constructor
+        private Watch(CloudflareClient client, ZoneListener listener) {
+            this.client = client;
+            this.listener = listener;
+            interval = minInterval;
+        }
+
+        // Fetch the zone without blocking the scheduler thread
+        private void poll() {
+            if (closed || polling) return;
+            polling = true;
+            client.collectPages("", 1, pageSize, new ArrayList<DnsRecord>(), maxRecords).whenCompleteAsync(this::complete, scheduler); // Stops paging once the zone exceeds the cap
+        }
+
+        // Diff against the last snapshot, deliver events and schedule the next poll
+        private void complete(List<DnsRecord> records, Throwable throwable) {
+            polling = false;
+            if (closed) return;
+            polls++;
+
+            // Back off on failure
+            var error = Transport.unwrap(throwable);
+            if (error != null) {
+                var failure = error;
+                deliver(() -> listener.onError(failure));
+                schedule(maxInterval);
+                return;
+            }
+
+            // One pass over the new records, changes are detected by ID and modification time
+            var previous = snapshot;
+            var next = new HashMap<String, DnsRecord>((int) (records.size() / 0.75f) + 1);
+            var changes = 0;
+            for (var record : records) {
+                next.put(record.getId(), record);
+                if (previous == null) continue;
+                var old = previous.remove(record.getId());
+                if (old == null) {
+                    changes++;
+                    deliver(() -> listener.onCreated(record));
+                } else if (old.getModifiedMicros() != record.getModifiedMicros()) {
+                    changes++;
+                    deliver(() -> listener.onUpdated(old, record));
+                }
+            }
+
+            // Records left over were deleted
+            if (previous != null) for (var record : previous.values()) {
+                changes++;
+                deliver(() -> listener.onDeleted(record));
+            }
+
+            // Keep snapshot and adapt interval
+            snapshot = next;
+            recordCount = next.size();
+            events += changes;
+            interval = changes > 0 ? minInterval : Math.min(maxInterval, interval * 2);
+            schedule(interval);
+        }
+
+        // Run listener without letting it stop the watcher
+        private void deliver(Runnable event) {
+            try {
+                event.run();
+            } catch (RuntimeException e) {
+                try {
+                    listener.onError(e);
+                } catch (RuntimeException ignored) {
+                    // Listener failed twice, drop the event
+                }
+            }
+        }
+
+        // Schedule next poll
+        private void schedule(long delay) {
+            if (!closed && !scheduler.isShutdown()) scheduled = scheduler.schedule(this::poll, delay, TimeUnit.NANOSECONDS);
+        }
+
+        // Poll now and restart at the minimum interval
+        public void pollNow() {
+            if (closed) return;
+            scheduler.execute(() -> {
+                if (scheduled != null) scheduled.cancel(false);
+                interval = minInterval;
+                poll();
+            });
+        }
+
+        // Stop watching and release the snapshot
+        @Override
+        public void close() {
+            closed = true;
+            watches.remove(this);
+            if (!scheduler.isShutdown()) scheduler.execute(() -> {
+                if (scheduled != null) scheduled.cancel(false);
+                snapshot = null;
+            });
+        }
+
+        // Getters
+        public CloudflareClient getClient() {
+            return client;
+        }
+
+        public Duration getInterval() {
+            return Duration.ofNanos(interval);
+        }
+
+        public long getPolls() {
+            return polls;
+        }
+
+        public long getEvents() {
+            return events;
+        }
+
+        public int getRecordCount() {
+            return recordCount;
+        }
+
+        public boolean isClosed() {
+            return closed;
+        }
+    }
+}
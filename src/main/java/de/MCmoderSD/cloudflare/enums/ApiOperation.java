@@ -0,0 +1,22 @@
+package de.MCmoderSD.cloudflare.enums;
+
+import java.util.Locale;
+
+public enum ApiOperation {
+
+    // Values
+    LIST,   // List DNS records
+    GET,    // Get a single DNS record
+    CREATE, // Create a DNS record
+    UPDATE, // Update a DNS record
+    DELETE, // Delete a DNS record
+    BATCH,  // Apply a batch of DNS record changes
+    EXPORT, // Export DNS records as zone file
+    IMPORT, // Import DNS records from zone file
+    ZONES;  // List or resolve zones
+
+    // Methods
+    public String getTag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,9 @@
+package de.MCmoderSD.cloudflare.enums;
+
+public enum BulkOperation {
+
+    // Values
+    CREATE,
+    UPDATE,
+    DELETE
+}
@@ -0,0 +1,9 @@
+package de.MCmoderSD.cloudflare.enums;
+
+public enum CircuitState {
+
+    // Values
+    CLOSED,     // Requests pass through
+    OPEN,       // Requests fail fast
+    HALF_OPEN   // A single trial request decides
+}
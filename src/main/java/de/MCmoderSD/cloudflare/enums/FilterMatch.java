@@ -0,0 +1,8 @@
+package de.MCmoderSD.cloudflare.enums;
+
+public enum FilterMatch {
+
+    // Values
+    ALL,    // Records must match every filter
+    ANY     // Records must match at least one filter
+}
@@ -0,0 +1,11 @@
+package de.MCmoderSD.cloudflare.enums;
+
+public enum RecordOrder {
+
+    // Values
+    TYPE,
+    NAME,
+    CONTENT,
+    TTL,
+    PROXIED
+}
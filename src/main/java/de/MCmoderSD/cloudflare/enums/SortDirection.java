@@ -0,0 +1,8 @@
+package de.MCmoderSD.cloudflare.enums;
+
+public enum SortDirection {
+
+    // Values
+    ASC,
+    DESC
+}
@@ -0,0 +1,16 @@
+package de.MCmoderSD.cloudflare.enums;
+
+public enum VerificationPolicy {
+
+    // Values
+    NONE,       // Trust the success flag and result of the write response
+    SINGLE_GET, // Fetch only the written record
+    FULL;       // Fetch the whole zone
+
+    // Methods
+    public static VerificationPolicy fromString(String policy) {
+        if (policy == null || policy.isBlank()) throw new IllegalArgumentException("Policy cannot be null or blank");
+        for (var verificationPolicy : VerificationPolicy.values()) if (verificationPolicy.name().equalsIgnoreCase(policy)) return verificationPolicy;
+        throw new IllegalArgumentException("Unknown verification policy: " + policy);
+    }
+}
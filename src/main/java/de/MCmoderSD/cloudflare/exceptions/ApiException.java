@@ -0,0 +1,91 @@
+package de.MCmoderSD.cloudflare.exceptions;
+
+import de.MCmoderSD.cloudflare.objects.ApiError;
+
+import java.io.Serial;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+@SuppressWarnings("unused")
+public class ApiException extends CloudflareException {
+
+    // Constants
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // Attributes
+    private final int statusCode;
+    private final Duration retryAfter;
+    @SuppressWarnings("serial") // Always an immutable list from List.of or List.copyOf, which are serializable
+    private final List<ApiError> errors;
+
+    // Constructors
+    public ApiException(int statusCode, Duration retryAfter) {
+        this(statusCode, retryAfter, List.of());
+    }
+
+    public ApiException(int statusCode, Duration retryAfter, List<ApiError> errors) {
+        super("Failed : HTTP error code : " + statusCode + (errors == null || errors.isEmpty() ? "" : " " + errors));
+        this.statusCode = statusCode;
+        this.retryAfter = retryAfter;
+        this.errors = errors == null ? List.of() : List.copyOf(errors);
+    }
+
+    // Create matching exception type for a status code
+    public static ApiException of(int statusCode, Duration retryAfter, List<ApiError> errors) {
+        if (statusCode == 429) return new RateLimitException(retryAfter, errors);
+        if (statusCode >= 500) return new ServerException(statusCode, retryAfter, errors);
+        if (statusCode >= 400) return new ClientException(statusCode, errors);
+        return new ApiException(statusCode, retryAfter, errors);
+    }
+
+    // Create from response
+    public static ApiException fromResponse(HttpResponse<?> httpResponse) {
+        return fromResponse(httpResponse, List.of());
+    }
+
+    public static ApiException fromResponse(HttpResponse<?> httpResponse, List<ApiError> errors) {
+        if (httpResponse == null) throw new IllegalArgumentException("HTTP response cannot be null");
+        return of(httpResponse.statusCode(), httpResponse.headers().firstValue("Retry-After").map(ApiException::parseRetryAfter).orElse(null), errors);
+    }
+
+    // Parse Retry-After header (delay in seconds or HTTP date)
+    private static Duration parseRetryAfter(String value) {
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                var delay = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return delay.isNegative() ? Duration.ZERO : delay;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+
+    // Getters
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public List<ApiError> getErrors() {
+        return errors;
+    }
+
+    public boolean hasErrorCode(int code) {
+        for (var error : errors) if (error.getCode() == code) return true;
+        return false;
+    }
+
+    public boolean isRateLimited() {
+        return statusCode == 429;
+    }
+}
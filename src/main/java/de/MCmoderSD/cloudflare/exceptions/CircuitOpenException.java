@@ -0,0 +1,26 @@
+package de.MCmoderSD.cloudflare.exceptions;
+
+import java.io.Serial;
+import java.time.Duration;
+
+@SuppressWarnings("unused")
+public class CircuitOpenException extends CloudflareException {
+
+    // Constants
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // Attributes
+    private final Duration retryAfter;
+
+    // Constructor
+    public CircuitOpenException(Duration retryAfter) {
+        super("Circuit breaker is open, retry in " + retryAfter.toMillis() + " ms");
+        this.retryAfter = retryAfter;
+    }
+
+    // Getters
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
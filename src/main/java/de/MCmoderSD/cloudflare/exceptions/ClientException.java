@@ -0,0 +1,24 @@
+package de.MCmoderSD.cloudflare.exceptions;
+
+import de.MCmoderSD.cloudflare.objects.ApiError;
+
+import java.io.Serial;
+import java.util.List;
+
+@SuppressWarnings("unused")
+public class ClientException extends ApiException {
+
+    // Constants
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // Constructor
+    public ClientException(int statusCode, List<ApiError> errors) {
+        super(statusCode, null, errors);
+    }
+
+    // Check for missing resource
+    public boolean isNotFound() {
+        return getStatusCode() == 404;
+    }
+}
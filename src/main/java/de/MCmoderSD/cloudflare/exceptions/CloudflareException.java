@@ -0,0 +1,20 @@
+package de.MCmoderSD.cloudflare.exceptions;
+
+import java.io.Serial;
+
+@SuppressWarnings("unused")
+public class CloudflareException extends RuntimeException {
+
+    // Constants
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // Constructors
+    public CloudflareException(String message) {
+        super(message);
+    }
+
+    public CloudflareException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
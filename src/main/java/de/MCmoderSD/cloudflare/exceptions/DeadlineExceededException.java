@@ -0,0 +1,16 @@
+package de.MCmoderSD.cloudflare.exceptions;
+
+import java.io.Serial;
+
+@SuppressWarnings("unused")
+public class DeadlineExceededException extends CloudflareException {
+
+    // Constants
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // Constructor
+    public DeadlineExceededException(String message) {
+        super(message + ": deadline exceeded");
+    }
+}
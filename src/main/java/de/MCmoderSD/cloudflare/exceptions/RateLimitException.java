@@ -0,0 +1,20 @@
+package de.MCmoderSD.cloudflare.exceptions;
+
+import de.MCmoderSD.cloudflare.objects.ApiError;
+
+import java.io.Serial;
+import java.time.Duration;
+import java.util.List;
+
+@SuppressWarnings("unused")
+public class RateLimitException extends ApiException {
+
+    // Constants
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // Constructor
+    public RateLimitException(Duration retryAfter, List<ApiError> errors) {
+        super(429, retryAfter, errors);
+    }
+}
@@ -0,0 +1,16 @@
+package de.MCmoderSD.cloudflare.exceptions;
+
+import java.io.Serial;
+
+@SuppressWarnings("unused")
+public class RequestCancelledException extends CloudflareException {
+
+    // Constants
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // Constructor, the interrupt status of the waiting thread is restored before this is thrown
+    public RequestCancelledException(String message, InterruptedException cause) {
+        super(message + ": interrupted", cause);
+    }
+}
@@ -0,0 +1,29 @@
+package de.MCmoderSD.cloudflare.metrics;
+
+import de.MCmoderSD.cloudflare.enums.ApiOperation;
+
+import java.net.http.HttpRequest;
+
+@SuppressWarnings("unused")
+public interface ApiMetrics {
+
+    // Disabled instrumentation, the transport skips all measuring for it
+    ApiMetrics NOOP = new ApiMetrics() {};
+
+    // Attempt is about to be sent, the returned context (e.g. a span) is handed back on completion
+    default Object onRequestStart(ApiOperation operation, HttpRequest request) {
+        return null;
+    }
+
+    // Attempt completed, status code is 0 if no response arrived and error is null on success
+    default void onRequestEnd(ApiOperation operation, Object context, int statusCode, long responseBytes, long durationNanos, Throwable error) {
+    }
+
+    // Attempt failed and will be repeated after the given delay
+    default void onRetry(ApiOperation operation, int attempt, Throwable error, long delayNanos) {
+    }
+
+    // Request failed after all attempts or was rejected by the circuit breaker
+    default void onFailure(ApiOperation operation, Throwable error) {
+    }
+}
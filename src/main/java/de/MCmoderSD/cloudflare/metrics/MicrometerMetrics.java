@@ -0,0 +1,95 @@
+package de.MCmoderSD.cloudflare.metrics;
+
+import de.MCmoderSD.cloudflare.enums.ApiOperation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.net.http.HttpRequest;
+import java.util.EnumMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Requires io.micrometer:micrometer-core on the classpath
+@SuppressWarnings("unused")
+public class MicrometerMetrics implements ApiMetrics {
+
+    // Meter names
+    public static final String REQUESTS = "cloudflare.api.requests";
+    public static final String RESPONSE_SIZE = "cloudflare.api.response.size";
+    public static final String ACTIVE = "cloudflare.api.requests.active";
+    public static final String RETRIES = "cloudflare.api.retries";
+    public static final String FAILURES = "cloudflare.api.failures";
+
+    // Attributes
+    private final MeterRegistry registry;
+    private final Tags tags;
+
+    // Meters per operation
+    private final EnumMap<ApiOperation, AtomicInteger> active;
+    private final EnumMap<ApiOperation, DistributionSummary> responseSizes;
+    private final EnumMap<ApiOperation, Counter> retries;
+
+    // Constructors
+    public MicrometerMetrics(MeterRegistry registry) {
+        this(registry, Tags.empty());
+    }
+
+    public MicrometerMetrics(MeterRegistry registry, Tags tags) {
+
+        // Check parameters
+        if (registry == null) throw new IllegalArgumentException("Registry cannot be null");
+        if (tags == null) throw new IllegalArgumentException("Tags cannot be null");
+
+        // Set attributes
+        this.registry = registry;
+        this.tags = tags;
+
+        // Register fixed meters up front
+        active = new EnumMap<>(ApiOperation.class);
+        responseSizes = new EnumMap<>(ApiOperation.class);
+        retries = new EnumMap<>(ApiOperation.class);
+        for (var operation : ApiOperation.values()) {
+            var operationTags = tags.and("operation", operation.getTag());
+            active.put(operation, registry.gauge(ACTIVE, operationTags, new AtomicInteger()));
+            responseSizes.put(operation, DistributionSummary.builder(RESPONSE_SIZE).baseUnit("bytes").tags(operationTags).register(registry));
+            retries.put(operation, Counter.builder(RETRIES).tags(operationTags).register(registry));
+        }
+    }
+
+    @Override
+    public Object onRequestStart(ApiOperation operation, HttpRequest request) {
+        active.get(operation).incrementAndGet();
+        return null;
+    }
+
+    @Override
+    public void onRequestEnd(ApiOperation operation, Object context, int statusCode, long responseBytes, long durationNanos, Throwable error) {
+        active.get(operation).decrementAndGet();
+        Timer.builder(REQUESTS)
+                .tags(tags)
+                .tag("operation", operation.getTag())
+                .tag("status", statusCode == 0 ? "none" : String.valueOf(statusCode))
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        responseSizes.get(operation).record(responseBytes);
+    }
+
+    @Override
+    public void onRetry(ApiOperation operation, int attempt, Throwable error, long delayNanos) {
+        retries.get(operation).increment();
+    }
+
+    @Override
+    public void onFailure(ApiOperation operation, Throwable error) {
+        Counter.builder(FAILURES)
+                .tags(tags)
+                .tag("operation", operation.getTag())
+                .tag("exception", error.getClass().getSimpleName())
+                .register(registry)
+                .increment();
+    }
+}
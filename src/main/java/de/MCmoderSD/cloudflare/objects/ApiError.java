@@ -0,0 +1,36 @@
+package de.MCmoderSD.cloudflare.objects;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+@SuppressWarnings("unused")
+public class ApiError implements Serializable {
+
+    // Constants
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // Attributes
+    private final int code;
+    private final String message;
+
+    // Constructor
+    public ApiError(int code, String message) {
+        this.code = code;
+        this.message = message == null ? "" : message;
+    }
+
+    // Getters
+    public int getCode() {
+        return code;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return code + ": " + message;
+    }
+}
@@ -0,0 +1,107 @@
+package de.MCmoderSD.cloudflare.objects;
+
+import de.MCmoderSD.cloudflare.enums.BulkOperation;
+
+import java.time.Duration;
+import java.util.List;
+
+@SuppressWarnings("unused")
+public class BulkResult {
+
+    // Attributes
+    private final List<Item> items;
+    private final Duration duration;
+
+    // Constructor
+    public BulkResult(List<Item> items, Duration duration) {
+
+        // Check parameters
+        if (items == null) throw new IllegalArgumentException("Items cannot be null");
+        if (duration == null) throw new IllegalArgumentException("Duration cannot be null");
+
+        // Set attributes
+        this.items = List.copyOf(items);
+        this.duration = duration;
+    }
+
+    // Getters
+    public List<Item> getItems() {
+        return items;
+    }
+
+    public List<Item> getItems(BulkOperation operation) {
+        return items.stream().filter(item -> item.operation == operation).toList();
+    }
+
+    public List<Item> getSucceeded() {
+        return items.stream().filter(Item::isSuccess).toList();
+    }
+
+    public List<Item> getFailed() {
+        return items.stream().filter(item -> !item.isSuccess()).toList();
+    }
+
+    public boolean isSuccess() {
+        return items.stream().allMatch(Item::isSuccess);
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public double getOperationsPerSecond() {
+        var nanos = duration.toNanos();
+        return nanos == 0 ? 0 : items.size() * 1_000_000_000D / nanos;
+    }
+
+    // Item class
+    public static class Item {
+
+        // Attributes
+        private final BulkOperation operation;
+        private final int index;
+        private final DnsRecord record;
+        private final int attempts;
+        private final Throwable error;
+
+        // Constructor
+        public Item(BulkOperation operation, int index, DnsRecord record, int attempts, Throwable error) {
+
+            // Check parameters
+            if (operation == null) throw new IllegalArgumentException("Operation cannot be null");
+            if (index < 0) throw new IllegalArgumentException("Index cannot be negative");
+
+            // Set attributes
+            this.operation = operation;
+            this.index = index;
+            this.record = record;
+            this.attempts = attempts;
+            this.error = error;
+        }
+
+        // Getters
+        public BulkOperation getOperation() {
+            return operation;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public DnsRecord getRecord() {
+            return record;
+        }
+
+        public int getAttempts() {
+            return attempts;
+        }
+
+        public Throwable getError() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+}
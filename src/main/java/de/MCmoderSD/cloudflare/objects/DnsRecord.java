@@ -1,12 +1,19 @@
 package de.MCmoderSD.cloudflare.objects;
 
 import de.MCmoderSD.cloudflare.enums.RecordType;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
 import tools.jackson.databind.JsonNode;
-import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.node.ObjectNode;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
@@ -16,17 +23,31 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 @SuppressWarnings("unused")
 public class DnsRecord implements Serializable {
 
+    // Constants
+    @Serial
+    private static final long serialVersionUID = 1L; // Compact layout with flags byte and epoch-microsecond timestamps, bump when serialized fields change
+    public static final int AUTOMATIC_TTL = 1; // Chosen by Cloudflare, always used by proxied records
+    public static final int MIN_TTL = 60;
+    public static final int MAX_TTL = 86400;
+
+    // Flags
+    protected static final byte PROXIABLE = 1;
+    protected static final byte PROXIED = 2;
+
     // Attributes
     protected final String id;
     protected final String name;
     protected final RecordType type;
     protected final String content;
-    protected final boolean proxiable;
-    protected final boolean proxied;
+    protected final byte flags;
     protected final int ttl;
     protected final String comment;
-    protected final Timestamp created;
-    protected final Timestamp modified;
+    protected final long created;   // Epoch microseconds
+    protected final long modified;  // Epoch microseconds
+    protected final RecordData data; // Null for plain content types
+
+    // Cached hash, 0 until computed
+    private transient int hash;
 
     // Constructor
     public DnsRecord(JsonNode dnsRecord) {
@@ -45,20 +66,98 @@ public class DnsRecord implements Serializable {
 
         // Set attributes
         id = dnsRecord.get("id").asString();
-        name = dnsRecord.get("name").asString();
+        name = StringCache.intern(dnsRecord.get("name").asString());
         type = RecordType.fromString(dnsRecord.get("type").asString());
-        content = dnsRecord.get("content").asString();
-        proxiable = dnsRecord.get("proxiable").asBoolean();
-        proxied = dnsRecord.get("proxied").asBoolean();
+        content = StringCache.intern(dnsRecord.get("content").asString());
+        flags = flags(dnsRecord.get("proxiable").asBoolean(), dnsRecord.get("proxied").asBoolean());
         ttl = dnsRecord.get("ttl").asInt();
 
         // Optional comment
         if (!dnsRecord.has("comment") || dnsRecord.get("comment").isNull() || !dnsRecord.get("comment").isString()) comment = null;
-        else comment = dnsRecord.get("comment").asString();
+        else comment = StringCache.intern(dnsRecord.get("comment").asString());
 
         // Parse timestamps
-        created = Timestamp.valueOf(dnsRecord.get("created_on").asString().replace("T", " ").replace("Z", ""));
-        modified = Timestamp.valueOf(dnsRecord.get("modified_on").asString().replace("T", " ").replace("Z", ""));
+        created = parseTimestamp(dnsRecord.get("created_on").asString());
+        modified = parseTimestamp(dnsRecord.get("modified_on").asString());
+
+        // Structured data
+        data = parseData(type, content, dnsRecord.get("data"), dnsRecord.path("priority").asInt());
+    }
+
+    // Streaming constructor, reads the object the parser is positioned on
+    public DnsRecord(JsonParser parser) {
+
+        // Check parser
+        if (parser == null || parser.currentToken() != JsonToken.START_OBJECT) throw new IllegalArgumentException("DNS record JSON cannot be null or empty");
+
+        // Read fields, strings and timestamps straight from the parser buffer
+        String id = null, name = null, type = null, content = null, comment = null;
+        Boolean proxiable = null, proxied = null;
+        Integer ttl = null;
+        JsonNode data = null;
+        var priority = 0;
+        var created = Long.MIN_VALUE;
+        var modified = Long.MIN_VALUE;
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            var field = parser.currentName();
+            var token = parser.nextToken();
+            var string = token == JsonToken.VALUE_STRING;
+            switch (field) {
+                case "id" -> id = string ? parser.getString() : null;
+                case "name" -> name = string ? StringCache.intern(parser.getStringCharacters(), parser.getStringOffset(), parser.getStringLength()) : null;
+                case "type" -> type = string ? parser.getString() : null;
+                case "content" -> content = string ? StringCache.intern(parser.getStringCharacters(), parser.getStringOffset(), parser.getStringLength()) : null;
+                case "proxiable" -> proxiable = token.isBoolean() ? token == JsonToken.VALUE_TRUE : null;
+                case "proxied" -> proxied = token.isBoolean() ? token == JsonToken.VALUE_TRUE : null;
+                case "ttl" -> ttl = token == JsonToken.VALUE_NUMBER_INT ? parser.getIntValue() : null;
+                case "comment" -> comment = string ? StringCache.intern(parser.getStringCharacters(), parser.getStringOffset(), parser.getStringLength()) : null;
+                case "created_on" -> created = string ? parseTimestamp(parser.getStringCharacters(), parser.getStringOffset(), parser.getStringLength()) : Long.MIN_VALUE;
+                case "modified_on" -> modified = string ? parseTimestamp(parser.getStringCharacters(), parser.getStringOffset(), parser.getStringLength()) : Long.MIN_VALUE;
+                case "data" -> {
+                    if (token == JsonToken.START_OBJECT) data = parser.readValueAsTree();
+                    else parser.skipChildren();
+                }
+                case "priority" -> priority = token == JsonToken.VALUE_NUMBER_INT ? parser.getIntValue() : 0;
+                default -> parser.skipChildren();
+            }
+        }
+
+        // Check fields
+        if (id == null) throw new IllegalArgumentException("DNS record ID is missing or invalid");
+        if (name == null) throw new IllegalArgumentException("DNS record name is missing or invalid");
+        if (type == null) throw new IllegalArgumentException("DNS record type is missing or invalid");
+        if (content == null) throw new IllegalArgumentException("DNS record content is missing or invalid");
+        if (proxiable == null) throw new IllegalArgumentException("DNS record proxiable flag is missing or invalid");
+        if (proxied == null) throw new IllegalArgumentException("DNS record proxied flag is missing or invalid");
+        if (ttl == null) throw new IllegalArgumentException("DNS record TTL is missing or invalid");
+        if (created == Long.MIN_VALUE) throw new IllegalArgumentException("DNS record creation timestamp is missing or invalid");
+        if (modified == Long.MIN_VALUE) throw new IllegalArgumentException("DNS record modification timestamp is missing or invalid");
+
+        // Set attributes
+        this.id = id;
+        this.name = name;
+        this.type = RecordType.fromString(type);
+        this.content = content;
+        this.flags = flags(proxiable, proxied);
+        this.ttl = ttl;
+        this.comment = comment;
+        this.created = created;
+        this.modified = modified;
+        this.data = parseData(this.type, content, data, priority);
+    }
+
+    // Snapshot constructor, attributes are already validated
+    DnsRecord(String id, String name, RecordType type, String content, byte flags, int ttl, String comment, long created, long modified, RecordData data) {
+        this.id = id;
+        this.name = name;
+        this.type = type;
+        this.content = content;
+        this.flags = flags;
+        this.ttl = ttl;
+        this.comment = comment;
+        this.created = created;
+        this.modified = modified;
+        this.data = data;
     }
 
     // Copy constructor
@@ -72,12 +171,114 @@ public class DnsRecord implements Serializable {
         name = dnsRecord.name;
         type = dnsRecord.type;
         content = dnsRecord.content;
-        proxiable = dnsRecord.proxiable;
-        proxied = dnsRecord.proxied;
+        flags = dnsRecord.flags;
         ttl = dnsRecord.ttl;
         comment = dnsRecord.comment;
         created = dnsRecord.created;
         modified = dnsRecord.modified;
+        data = dnsRecord.data;
+        hash = dnsRecord.hash;
+    }
+
+    // Pack boolean attributes
+    private static byte flags(boolean proxiable, boolean proxied) {
+        return (byte) ((proxiable ? PROXIABLE : 0) | (proxied ? PROXIED : 0));
+    }
+
+    // Read structured data, null when the API sent it in an unexpected shape, the content is kept either way
+    private static RecordData parseData(RecordType type, String content, JsonNode data, int priority) {
+        try {
+            return RecordData.fromJson(type, content, data, priority);
+        } catch (RuntimeException e) {
+            return null; // One odd record must not fail a whole listing
+        }
+    }
+
+    // Parse ISO-8601 timestamp to epoch microseconds
+    private static long parseTimestamp(String timestamp) {
+        return parseTimestamp(timestamp.toCharArray(), 0, timestamp.length());
+    }
+
+    // Fast path for yyyy-MM-ddTHH:mm:ss[.fraction][Z|+HH:MM] as sent by the API, anything else goes through java.time
+    private static long parseTimestamp(char[] chars, int offset, int length) {
+
+        // Check separators
+        var end = offset + length;
+        if (length < 19 || chars[offset + 4] != '-' || chars[offset + 7] != '-' || chars[offset + 10] != 'T' || chars[offset + 13] != ':' || chars[offset + 16] != ':') return parseTimestampSlow(chars, offset, length);
+
+        // Read date and time
+        var year = digits(chars, offset, 4);
+        var month = digits(chars, offset + 5, 2);
+        var day = digits(chars, offset + 8, 2);
+        var hour = digits(chars, offset + 11, 2);
+        var minute = digits(chars, offset + 14, 2);
+        var second = digits(chars, offset + 17, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31 || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) return parseTimestampSlow(chars, offset, length);
+
+        // Read fraction, truncated to microseconds
+        var index = offset + 19;
+        var micros = 0L;
+        if (index < end && chars[index] == '.') {
+            var count = 0;
+            while (++index < end && chars[index] >= '0' && chars[index] <= '9') if (count++ < 6) micros = micros * 10 + chars[index] - '0';
+            for (; count < 6; count++) micros *= 10;
+        }
+
+        // Read zone, no zone means UTC
+        var offsetSeconds = 0L;
+        if (index < end) {
+            if (chars[index] == 'Z' && index + 1 == end) offsetSeconds = 0;
+            else if ((chars[index] == '+' || chars[index] == '-') && end - index == 6 && chars[index + 3] == ':' && digits(chars, index + 1, 2) >= 0 && digits(chars, index + 4, 2) >= 0) offsetSeconds = (chars[index] == '-' ? -1 : 1) * (digits(chars, index + 1, 2) * 3600L + digits(chars, index + 4, 2) * 60L);
+            else return parseTimestampSlow(chars, offset, length);
+        }
+
+        // Combine
+        var epochSeconds = epochDay(year, month, day) * 86400L + hour * 3600L + minute * 60L + second - offsetSeconds;
+        return epochSeconds * 1_000_000L + micros;
+    }
+
+    // Parse unusual formats
+    private static long parseTimestampSlow(char[] chars, int offset, int length) {
+        var timestamp = new String(chars, offset, length);
+        try {
+            Instant instant;
+            try {
+                instant = Instant.parse(timestamp);
+            } catch (DateTimeParseException e) {
+                instant = LocalDateTime.parse(timestamp.replace(' ', 'T')).toInstant(ZoneOffset.UTC);
+            }
+            return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1000;
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("DNS record timestamp is invalid: " + timestamp, e);
+        }
+    }
+
+    // Read fixed number of digits, -1 if any is not a digit
+    private static int digits(char[] chars, int offset, int count) {
+        var value = 0;
+        for (var i = offset; i < offset + count; i++) {
+            var digit = chars[i] - '0';
+            if (digit < 0 || digit > 9) return -1;
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    // Days since 1970-01-01 for a proleptic Gregorian date
+    private static long epochDay(int year, int month, int day) {
+        var y = month <= 2 ? year - 1 : year;
+        var era = Math.floorDiv(y, 400);
+        var yearOfEra = y - era * 400;
+        var dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        var dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468;
+    }
+
+    // Convert epoch microseconds
+    private static Timestamp toTimestamp(long micros) {
+        var timestamp = new Timestamp(Math.floorDiv(micros, 1000));
+        timestamp.setNanos((int) Math.floorMod(micros, 1_000_000L) * 1000);
+        return timestamp;
     }
 
     // Getters
@@ -94,15 +295,16 @@ public class DnsRecord implements Serializable {
     }
 
     public String getContent() {
+        if (RecordData.isStructured(type)) return content;
         return content.contains(" ") && !content.startsWith("\"") && !content.endsWith("\"") ? "\"" + content + "\"" : content;
     }
 
     public boolean isProxiable() {
-        return proxiable;
+        return (flags & PROXIABLE) != 0;
     }
 
     public boolean isProxied() {
-        return proxied;
+        return (flags & PROXIED) != 0;
     }
 
     public int getTtl() {
@@ -119,13 +321,25 @@ public class DnsRecord implements Serializable {
     }
 
     public Timestamp getCreated() {
-        return created;
+        return toTimestamp(created);
     }
 
     public Timestamp getModified() {
+        return toTimestamp(modified);
+    }
+
+    public long getCreatedMicros() {
+        return created;
+    }
+
+    public long getModifiedMicros() {
         return modified;
     }
 
+    public RecordData getData() {
+        return data;
+    }
+
     // Static builder method
     public static Builder builder(RecordType type) {
         return new Builder(type);
@@ -140,6 +354,7 @@ public class DnsRecord implements Serializable {
         // Builder attributes
         private String name;
         private String content;
+        private RecordData data;
         private boolean proxied;
         private int ttl;
         private String comment;
@@ -150,22 +365,6 @@ public class DnsRecord implements Serializable {
             // Null check
             if (type == null) throw new IllegalArgumentException("Type cannot be null");
 
-            // Check unsupported types
-            if (type == CAA)    throw new RuntimeException("CAA records are currently not implemented");
-            if (type == CERT)   throw new RuntimeException("CERT records are currently not implemented");
-            if (type == DNSKEY) throw new RuntimeException("DNSKEY records are currently not implemented");
-            if (type == DS)     throw new RuntimeException("DS records are currently not implemented");
-            if (type == HTTPS)  throw new RuntimeException("HTTPS records are currently not implemented");
-            if (type == LOC)    throw new RuntimeException("LOC records are currently not implemented");
-            if (type == MX)     throw new RuntimeException("MX records are currently not implemented");
-            if (type == NAPTR)  throw new RuntimeException("NAPTR records are currently not implemented");
-            if (type == SMIMEA) throw new RuntimeException("SMIMEA records are currently not implemented");
-            if (type == SRV)    throw new RuntimeException("SRV records are currently not implemented");
-            if (type == SSHFP)  throw new RuntimeException("SSHFP records are currently not implemented");
-            if (type == SVCB)   throw new RuntimeException("SVCB records are currently not implemented");
-            if (type == TLSA)   throw new RuntimeException("TLSA records are currently not implemented");
-            if (type == URI)    throw new RuntimeException("URI records are currently not implemented");
-
             // Set type
             this.type = type;
         }
@@ -185,6 +384,9 @@ public class DnsRecord implements Serializable {
             if (content == null) throw new IllegalArgumentException("Content cannot be null");
             if (content.isBlank()) throw new IllegalArgumentException("Content cannot be blank");
 
+            // Structured types are parsed from presentation format
+            if (RecordData.isStructured(type)) return data(RecordData.parse(type, content));
+
             // Set content
             this.content = content;
 
@@ -192,6 +394,14 @@ public class DnsRecord implements Serializable {
             return this;
         }
 
+        public Builder data(RecordData data) {
+            if (data == null) throw new IllegalArgumentException("Data cannot be null");
+            if (!data.supports(type)) throw new IllegalArgumentException("Data does not belong to record type " + type);
+            this.data = data;
+            this.content = data.toContent();
+            return this;
+        }
+
         public Builder proxied(boolean proxied) {
             if (proxied && !type.isProxiable()) throw new IllegalArgumentException("Record type " + type + " cannot be proxied");
             this.proxied = proxied;
@@ -199,8 +409,8 @@ public class DnsRecord implements Serializable {
         }
 
         public Builder ttl(int ttl) {
-            if (ttl < 60) throw new IllegalArgumentException("TTL must be at least 1 minute (60 seconds)");
-            if (ttl > 86400) throw new IllegalArgumentException("TTL cannot be greater than 1 day (86400 seconds)");
+            if (ttl < MIN_TTL && ttl != AUTOMATIC_TTL) throw new IllegalArgumentException("TTL must be automatic (1) or at least 1 minute (60 seconds)");
+            if (ttl > MAX_TTL) throw new IllegalArgumentException("TTL cannot be greater than 1 day (86400 seconds)");
             this.ttl = ttl;
             return this;
         }
@@ -210,35 +420,102 @@ public class DnsRecord implements Serializable {
             return this;
         }
 
+        // Getters
+        public RecordType getType() {
+            return type;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getContent() {
+            if (data != null) return content;
+            return content == null ? null : content.contains(" ") ? "\"" + content + "\"" : content;
+        }
+
+        public RecordData getData() {
+            return data;
+        }
+
+        public boolean isProxied() {
+            return proxied;
+        }
+
+        public int getTtl() {
+            return ttl == 0 ? 300 : ttl;
+        }
+
+        public String getComment() {
+            return comment;
+        }
+
         // Build JSON object
         public ObjectNode buildJson() {
+            return JsonCodec.toTree(buildBytes());
+        }
+
+        // Build request body as UTF-8 JSON
+        public byte[] buildBytes() {
+            return JsonCodec.write(this::writeJson);
+        }
+
+        // Write JSON object to a generator
+        public void writeJson(JsonGenerator generator) {
 
             // Check required attributes
+            if (generator == null) throw new IllegalArgumentException("Generator cannot be null");
             if (name == null) throw new IllegalArgumentException("Name is required");
             if (content == null) throw new IllegalArgumentException("Content is required");
             if (ttl == 0) ttl = 300; // Default TTL 300 seconds
 
-            // Create JSON object
-            var node = new ObjectMapper().createObjectNode()
-                    .put("type", type.toString())
-                    .put("name", name)
-                    .put("content", content.contains(" ") ? "\"" + content + "\"" : content)
-                    .put("ttl", ttl)
-                    .put("proxied", proxied);
-            if (comment != null) node.put("comment", comment);
-
-            // Return JSON object
-            return node;
+            // Write JSON object
+            generator.writeStartObject();
+            generator.writeStringProperty("type", type.toString());
+            generator.writeStringProperty("name", name);
+            if (data != null) data.write(generator);
+            else generator.writeStringProperty("content", content.contains(" ") ? "\"" + content + "\"" : content);
+            generator.writeNumberProperty("ttl", ttl);
+            generator.writeBooleanProperty("proxied", proxied);
+            if (comment != null) generator.writeStringProperty("comment", comment);
+            generator.writeEndObject();
         }
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, name, type, content, proxiable, proxied, ttl, comment, created, modified);
+        var h = hash;
+        if (h == 0) {
+            h = id.hashCode();
+            h = 31 * h + name.hashCode();
+            h = 31 * h + type.hashCode();
+            h = 31 * h + content.hashCode();
+            h = 31 * h + flags;
+            h = 31 * h + ttl;
+            h = 31 * h + Objects.hashCode(comment);
+            h = 31 * h + Long.hashCode(created);
+            h = 31 * h + Long.hashCode(modified);
+            h = 31 * h + Objects.hashCode(data);
+            hash = h == 0 ? 1 : h;
+        }
+        return h;
     }
 
     @Override
     public boolean equals(Object obj) {
-        return obj.getClass() == getClass() && hashCode() == obj.hashCode();
+        if (this == obj) return true;
+        if (obj == null || obj.getClass() != getClass()) return false;
+        var other = (DnsRecord) obj;
+        return hashCode() == other.hashCode()
+                && flags == other.flags
+                && ttl == other.ttl
+                && created == other.created
+                && modified == other.modified
+                && type == other.type
+                && id.equals(other.id)
+                && name.equals(other.name)
+                && content.equals(other.content)
+                && Objects.equals(comment, other.comment)
+                && Objects.equals(data, other.data);
     }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package de.MCmoderSD.cloudflare.objects;
+
+import tools.jackson.databind.JsonNode;
+
+@SuppressWarnings("unused")
+public class ImportResult {
+
+    // Attributes
+    private final int recordsAdded;
+    private final int recordsParsed;
+
+    // Constructor
+    public ImportResult(JsonNode result) {
+
+        // Check result
+        if (result == null || result.isNull() || !result.isObject()) throw new IllegalArgumentException("Import result JSON cannot be null or empty");
+
+        // Set attributes
+        recordsAdded = result.path("recs_added").asInt();
+        recordsParsed = result.path("total_records_parsed").asInt();
+    }
+
+    // Getters
+    public int getRecordsAdded() {
+        return recordsAdded;
+    }
+
+    public int getRecordsParsed() {
+        return recordsParsed;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportResult{added=" + recordsAdded + ", parsed=" + recordsParsed + "}";
+    }
+}
@@ -0,0 +1,36 @@
+package de.MCmoderSD.cloudflare.objects;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayOutputStream;
+import java.util.function.Consumer;
+
+final class JsonCodec {
+
+    // Constants
+    private static final int INITIAL_SIZE = 256;
+
+    // Shared mapper, immutable and thread-safe, generators reuse its recycled buffers
+    static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // Constructor
+    private JsonCodec() {
+        // Utility class
+    }
+
+    // Write JSON straight to bytes
+    static byte[] write(Consumer<JsonGenerator> writer) {
+        var outputStream = new ByteArrayOutputStream(INITIAL_SIZE);
+        try (var generator = MAPPER.createGenerator(outputStream)) {
+            writer.accept(generator);
+        }
+        return outputStream.toByteArray();
+    }
+
+    // Read written object back as tree for the tree-based methods
+    static ObjectNode toTree(byte[] json) {
+        return (ObjectNode) MAPPER.readTree(json);
+    }
+}
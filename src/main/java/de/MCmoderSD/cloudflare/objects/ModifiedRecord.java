@@ -1,8 +1,9 @@
 package de.MCmoderSD.cloudflare.objects;
 
-import tools.jackson.databind.ObjectMapper;
+import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.node.ObjectNode;
 
+import java.io.Serial;
 import java.util.concurrent.TimeUnit;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -10,8 +11,13 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 @SuppressWarnings("unused")
 public class ModifiedRecord extends DnsRecord {
 
+    // Constants
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     // Modified attributes
     private String modifiedContent;
+    private RecordData modifiedData;
     private Boolean modifiedProxied;
     private Integer modifiedTtl;
     private String modifiedComment;
@@ -23,30 +29,93 @@ public class ModifiedRecord extends DnsRecord {
 
     // Create JSON object for modified content
     public ObjectNode getModifiedContent() {
-        var node = new ObjectMapper().createObjectNode()
-                .put("id", getId())
-                .put("name", getName())
-                .put("type", getType().toString())
-                .put("content", getContent())
-                .put("proxied", isProxied())
-                .put("ttl", getTtl());
-        if (getComment() != null) node.put("comment", getComment());
-        return node;
+        return JsonCodec.toTree(getModifiedBytes());
+    }
+
+    // Create request body for modified content as UTF-8 JSON
+    public byte[] getModifiedBytes() {
+        return JsonCodec.write(this::writeModifiedContent);
+    }
+
+    // Write JSON object for modified content to a generator
+    public void writeModifiedContent(JsonGenerator generator) {
+        if (generator == null) throw new IllegalArgumentException("Generator cannot be null");
+        generator.writeStartObject();
+        generator.writeStringProperty("id", getId());
+        generator.writeStringProperty("name", getName());
+        generator.writeStringProperty("type", getType().toString());
+        var data = getData();
+        if (data != null) data.write(generator);
+        else generator.writeStringProperty("content", getContent());
+        generator.writeBooleanProperty("proxied", isProxied());
+        generator.writeNumberProperty("ttl", getTtl());
+        if (getComment() != null) generator.writeStringProperty("comment", getComment());
+        generator.writeEndObject();
+    }
+
+    // Create request body with the changed attributes only
+    public byte[] getChangedBytes() {
+        return JsonCodec.write(this::writeChanges);
+    }
+
+    // Write JSON object with the record ID and changed attributes to a generator
+    public void writeChanges(JsonGenerator generator) {
+        if (generator == null) throw new IllegalArgumentException("Generator cannot be null");
+        generator.writeStartObject();
+        generator.writeStringProperty("id", getId());
+        if (isDataModified()) modifiedData.write(generator);
+        if (isContentModified()) generator.writeStringProperty("content", getContent());
+        if (isProxyModified()) generator.writeBooleanProperty("proxied", modifiedProxied);
+        if (isTtlModified()) generator.writeNumberProperty("ttl", modifiedTtl);
+        if (isCommentModified()) generator.writeStringProperty("comment", modifiedComment);
+        generator.writeEndObject();
+    }
+
+    // Check for attributes that differ from the original record
+    public boolean isModified() {
+        return isContentModified() || isDataModified() || isProxyModified() || isTtlModified() || isCommentModified();
+    }
+
+    public boolean isContentModified() {
+        return modifiedContent != null && !getContent().equals(super.getContent());
+    }
+
+    public boolean isDataModified() {
+        return modifiedData != null && !modifiedData.equals(super.getData());
+    }
+
+    public boolean isProxyModified() {
+        return modifiedProxied != null && modifiedProxied != super.isProxied();
+    }
+
+    public boolean isTtlModified() {
+        return modifiedTtl != null && modifiedTtl != super.getTtl();
+    }
+
+    public boolean isCommentModified() {
+        return modifiedComment != null && !modifiedComment.equals(super.getComment());
     }
 
     // Setters for modified attributes
     public void modifyContent(String content) {
         if (content == null || content.isBlank()) throw new IllegalArgumentException("Content cannot be null or blank");
-        modifiedContent = content;
+        if (RecordData.isStructured(getType())) modifyData(RecordData.parse(getType(), content));
+        else modifiedContent = content;
+    }
+
+    public void modifyData(RecordData data) {
+        if (data == null) throw new IllegalArgumentException("Data cannot be null");
+        if (!data.supports(getType())) throw new IllegalArgumentException("Data does not belong to record type " + getType());
+        modifiedData = data;
     }
 
     public void modifyProxy(boolean proxied) {
-        if (proxiable) modifiedProxied = proxied;
+        if (isProxiable()) modifiedProxied = proxied;
         else throw new IllegalArgumentException("Record is not proxiable");
     }
 
     public void modifyTtl(int ttl) {
-        if (ttl < 60) throw new IllegalArgumentException("TTL must be at least 1 minute (60 seconds)");
+        if (ttl < 60 && ttl != AUTOMATIC_TTL) throw new IllegalArgumentException("TTL must be automatic (1) or at least 1 minute (60 seconds)");
         if (ttl > 86400) throw new IllegalArgumentException("TTL cannot be more than 1 day (86400 seconds)");
         modifiedTtl = ttl;
     }
@@ -58,7 +127,12 @@ public class ModifiedRecord extends DnsRecord {
     // Overridden getters to return modified values if set
     @Override
     public String getContent() {
-        return modifiedContent == null ? super.getContent() : content.contains(" ") && !content.startsWith("\"") && !content.endsWith("\"") ? "\"" + modifiedContent + "\"" : modifiedContent;
+        return modifiedContent == null ? super.getContent() : modifiedContent.contains(" ") && !modifiedContent.startsWith("\"") && !modifiedContent.endsWith("\"") ? "\"" + modifiedContent + "\"" : modifiedContent;
+    }
+
+    @Override
+    public RecordData getData() {
+        return modifiedData == null ? super.getData() : modifiedData;
     }
 
     @Override
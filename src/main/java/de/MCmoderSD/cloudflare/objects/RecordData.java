@@ -0,0 +1,1234 @@
+package de.MCmoderSD.cloudflare.objects;
+
+import de.MCmoderSD.cloudflare.enums.RecordType;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static de.MCmoderSD.cloudflare.enums.RecordType.*;
+
+// Structured data of record types that the API describes with a data object or priority instead of plain content
+@SuppressWarnings("unused")
+public abstract class RecordData implements Serializable {
+
+    // Constants
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // Limits
+    private static final int UINT8 = 0xFF;
+    private static final int UINT16 = 0xFFFF;
+
+    // Constructor
+    RecordData() {
+        // Subclasses are defined here
+    }
+
+    // Check if the data belongs to a record type
+    public abstract boolean supports(RecordType type);
+
+    // Presentation format as used in zone files
+    public abstract String toContent();
+
+    // Write API fields into an open record object
+    public abstract void write(JsonGenerator generator);
+
+    // Write API fields onto a record request body
+    public void write(ObjectNode record) {
+        record.setAll(JsonCodec.toTree(JsonCodec.write(generator -> {
+            generator.writeStartObject();
+            write(generator);
+            generator.writeEndObject();
+        })));
+    }
+
+    // Check if a record type carries structured data
+    public static boolean isStructured(RecordType type) {
+        return type != null && type != A && type != AAAA && type != CNAME && type != NS && type != PTR && type != TXT;
+    }
+
+    // Read data of an API record, null for plain types or when the API sent no data
+    public static RecordData fromJson(RecordType type, String content, JsonNode data, int priority) {
+        if (!isStructured(type)) return null;
+        if (type == MX) return content == null || content.isBlank() ? null : new Mx(priority, content);
+        if (data == null || !data.isObject() || data.isEmpty()) return null;
+        return switch (type) {
+            case CAA -> new Caa(data.path("flags").asInt(), data.path("tag").asString(), data.path("value").asString());
+            case CERT -> new Cert(data.path("type").asInt(), data.path("key_tag").asInt(), data.path("algorithm").asInt(), data.path("certificate").asString());
+            case DNSKEY -> new DnsKey(data.path("flags").asInt(), data.path("protocol").asInt(), data.path("algorithm").asInt(), data.path("public_key").asString());
+            case DS -> new Ds(data.path("key_tag").asInt(), data.path("algorithm").asInt(), data.path("digest_type").asInt(), data.path("digest").asString());
+            case HTTPS, SVCB -> new Svcb(data.path("priority").asInt(), data.path("target").asString(), data.path("value").asString());
+            case LOC -> new Loc(
+                    data.path("lat_degrees").asInt(), data.path("lat_minutes").asInt(), data.path("lat_seconds").asDouble(), data.path("lat_direction").asString("N").charAt(0),
+                    data.path("long_degrees").asInt(), data.path("long_minutes").asInt(), data.path("long_seconds").asDouble(), data.path("long_direction").asString("E").charAt(0),
+                    data.path("altitude").asDouble(), data.path("size").asDouble(), data.path("precision_horz").asDouble(), data.path("precision_vert").asDouble());
+            case NAPTR -> new Naptr(data.path("order").asInt(), data.path("preference").asInt(), data.path("flags").asString(), data.path("service").asString(), data.path("regex").asString(), data.path("replacement").asString());
+            case SMIMEA, TLSA -> new Tlsa(data.path("usage").asInt(), data.path("selector").asInt(), data.path("matching_type").asInt(), data.path("certificate").asString());
+            case SRV -> new Srv(data.path("priority").asInt(), data.path("weight").asInt(), data.path("port").asInt(), data.path("target").asString());
+            case SSHFP -> new Sshfp(data.path("algorithm").asInt(), data.path("type").asInt(), data.path("fingerprint").asString());
+            case URI -> new Uri(priority, data.path("weight").asInt(), data.path("target").asString());
+            default -> null;
+        };
+    }
+
+    // Parse presentation format, e.g. "10 mail.example.com" for MX
+    public static RecordData parse(RecordType type, String content) {
+
+        // Check parameters
+        if (!isStructured(type)) throw new IllegalArgumentException("Record type " + type + " has no structured data");
+        if (content == null || content.isBlank()) throw new IllegalArgumentException("Content cannot be null or blank");
+
+        // Split into fields
+        var fields = tokenize(content);
+        return switch (type) {
+            case CAA -> {
+                expect(type, fields, 3);
+                yield new Caa(number(fields, 0), fields.get(1), join(fields, 2, " "));
+            }
+            case CERT -> {
+                expect(type, fields, 4);
+                yield new Cert(number(fields, 0), number(fields, 1), number(fields, 2), join(fields, 3, ""));
+            }
+            case DNSKEY -> {
+                expect(type, fields, 4);
+                yield new DnsKey(number(fields, 0), number(fields, 1), number(fields, 2), join(fields, 3, ""));
+            }
+            case DS -> {
+                expect(type, fields, 4);
+                yield new Ds(number(fields, 0), number(fields, 1), number(fields, 2), join(fields, 3, ""));
+            }
+            case HTTPS, SVCB -> {
+                var parts = content.trim().split("\\s+", 3);
+                if (parts.length < 2) throw new IllegalArgumentException(type + " content requires at least 2 fields");
+                yield new Svcb(number(List.of(parts), 0), parts[1], parts.length > 2 ? parts[2] : "");
+            }
+            case LOC -> Loc.parse(fields);
+            case MX -> {
+                expect(type, fields, 2);
+                yield new Mx(number(fields, 0), fields.get(1));
+            }
+            case NAPTR -> {
+                expect(type, fields, 6);
+                yield new Naptr(number(fields, 0), number(fields, 1), fields.get(2), fields.get(3), fields.get(4), fields.get(5));
+            }
+            case SMIMEA, TLSA -> {
+                expect(type, fields, 4);
+                yield new Tlsa(number(fields, 0), number(fields, 1), number(fields, 2), join(fields, 3, ""));
+            }
+            case SRV -> {
+                expect(type, fields, 4);
+                yield new Srv(number(fields, 0), number(fields, 1), number(fields, 2), fields.get(3));
+            }
+            case SSHFP -> {
+                expect(type, fields, 3);
+                yield new Sshfp(number(fields, 0), number(fields, 1), join(fields, 2, ""));
+            }
+            case URI -> {
+                expect(type, fields, 3);
+                yield new Uri(number(fields, 0), number(fields, 1), join(fields, 2, " "));
+            }
+            default -> throw new IllegalArgumentException("Record type " + type + " has no structured data");
+        };
+    }
+
+    // Split presentation format, quoted strings become single fields without quotes
+    static List<String> tokenize(String content) {
+        var fields = new ArrayList<String>();
+        var length = content.length();
+        var i = 0;
+        while (i < length) {
+            var c = content.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+            var builder = new StringBuilder();
+            if (c == '"') {
+                i++;
+                while (i < length && content.charAt(i) != '"') {
+                    if (content.charAt(i) == '\\' && i + 1 < length) i++;
+                    builder.append(content.charAt(i++));
+                }
+                if (i >= length) throw new IllegalArgumentException("Unterminated quoted string in content: " + content);
+                i++;
+            } else while (i < length && !Character.isWhitespace(content.charAt(i))) builder.append(content.charAt(i++));
+            fields.add(builder.toString());
+        }
+        return fields;
+    }
+
+    // Field helpers
+    private static void expect(RecordType type, List<String> fields, int count) {
+        if (fields.size() < count) throw new IllegalArgumentException(type + " content requires " + count + " fields");
+    }
+
+    private static int number(List<String> fields, int index) {
+        try {
+            return Integer.parseInt(fields.get(index));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Field " + (index + 1) + " is not a number: " + fields.get(index));
+        }
+    }
+
+    private static String join(List<String> fields, int from, String separator) {
+        return String.join(separator, fields.subList(from, fields.size()));
+    }
+
+    // Validation helpers
+    static int check(int value, int max, String field) {
+        if (value < 0 || value > max) throw new IllegalArgumentException(field + " must be between 0 and " + max);
+        return value;
+    }
+
+    static String require(String value, String field) {
+        if (value == null || value.isBlank()) throw new IllegalArgumentException(field + " cannot be null or blank");
+        return value;
+    }
+
+    // Formatting helpers
+    static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    static String name(String target) {
+        return target.length() > 1 && target.endsWith(".") ? target.substring(0, target.length() - 1) : target;
+    }
+
+    static String decimal(double value) {
+        return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+
+    @Override
+    public String toString() {
+        return toContent();
+    }
+
+    // Certification Authority Authorization
+    public static final class Caa extends RecordData {
+
+        // Constants
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        // Attributes
+        private final int flags;
+        private final String tag;
+        private final String value;
+
+        // Constructor
+        public Caa(int flags, String tag, String value) {
+            this.flags = check(flags, UINT8, "CAA flags");
+            this.tag = require(tag, "CAA tag").toLowerCase(Locale.ROOT);
+            if (value == null) throw new IllegalArgumentException("CAA value cannot be null");
+            this.value = value;
+        }
+
+        @Override
+        public boolean supports(RecordType type) {
+            return type == CAA;
+        }
+
+        @Override
+        public String toContent() {
+            return flags + " " + tag + " " + quote(value);
+        }
+
+        @Override
+        public void write(JsonGenerator generator) {
+            generator.writeObjectPropertyStart("data");
+            generator.writeNumberProperty("flags", flags);
+            generator.writeStringProperty("tag", tag);
+            generator.writeStringProperty("value", value);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public int hashCode() {
+            var h = flags;
+            h = 31 * h + tag.hashCode();
+            h = 31 * h + value.hashCode();
+            return h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Caa other)) return false;
+            return flags == other.flags
+                    && tag.equals(other.tag)
+                    && value.equals(other.value);
+        }
+
+        // Getters
+        public int getFlags() {
+            return flags;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    // Certificate
+    public static final class Cert extends RecordData {
+
+        // Constants
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        // Attributes
+        private final int certificateType;
+        private final int keyTag;
+        private final int algorithm;
+        private final String certificate;
+
+        // Constructor
+        public Cert(int certificateType, int keyTag, int algorithm, String certificate) {
+            this.certificateType = check(certificateType, UINT16, "CERT type");
+            this.keyTag = check(keyTag, UINT16, "CERT key tag");
+            this.algorithm = check(algorithm, UINT8, "CERT algorithm");
+            this.certificate = require(certificate, "CERT certificate");
+        }
+
+        @Override
+        public boolean supports(RecordType type) {
+            return type == CERT;
+        }
+
+        @Override
+        public String toContent() {
+            return certificateType + " " + keyTag + " " + algorithm + " " + certificate;
+        }
+
+        @Override
+        public void write(JsonGenerator generator) {
+            generator.writeObjectPropertyStart("data");
+            generator.writeNumberProperty("type", certificateType);
+            generator.writeNumberProperty("key_tag", keyTag);
+            generator.writeNumberProperty("algorithm", algorithm);
+            generator.writeStringProperty("certificate", certificate);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public int hashCode() {
+            var h = certificateType;
+            h = 31 * h + keyTag;
+            h = 31 * h + algorithm;
+            h = 31 * h + certificate.hashCode();
+            return h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Cert other)) return false;
+            return certificateType == other.certificateType
+                    && keyTag == other.keyTag
+                    && algorithm == other.algorithm
+                    && certificate.equals(other.certificate);
+        }
+
+        // Getters
+        public int getCertificateType() {
+            return certificateType;
+        }
+
+        public int getKeyTag() {
+            return keyTag;
+        }
+
+        public int getAlgorithm() {
+            return algorithm;
+        }
+
+        public String getCertificate() {
+            return certificate;
+        }
+    }
+
+    // DNSSEC public key
+    public static final class DnsKey extends RecordData {
+
+        // Constants
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        // Attributes
+        private final int flags;
+        private final int protocol;
+        private final int algorithm;
+        private final String publicKey;
+
+        // Constructor
+        public DnsKey(int flags, int protocol, int algorithm, String publicKey) {
+            this.flags = check(flags, UINT16, "DNSKEY flags");
+            this.protocol = check(protocol, UINT8, "DNSKEY protocol");
+            this.algorithm = check(algorithm, UINT8, "DNSKEY algorithm");
+            this.publicKey = require(publicKey, "DNSKEY public key");
+        }
+
+        @Override
+        public boolean supports(RecordType type) {
+            return type == DNSKEY;
+        }
+
+        @Override
+        public String toContent() {
+            return flags + " " + protocol + " " + algorithm + " " + publicKey;
+        }
+
+        @Override
+        public void write(JsonGenerator generator) {
+            generator.writeObjectPropertyStart("data");
+            generator.writeNumberProperty("flags", flags);
+            generator.writeNumberProperty("protocol", protocol);
+            generator.writeNumberProperty("algorithm", algorithm);
+            generator.writeStringProperty("public_key", publicKey);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public int hashCode() {
+            var h = flags;
+            h = 31 * h + protocol;
+            h = 31 * h + algorithm;
+            h = 31 * h + publicKey.hashCode();
+            return h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof DnsKey other)) return false;
+            return flags == other.flags
+                    && protocol == other.protocol
+                    && algorithm == other.algorithm
+                    && publicKey.equals(other.publicKey);
+        }
+
+        // Getters
+        public int getFlags() {
+            return flags;
+        }
+
+        public int getProtocol() {
+            return protocol;
+        }
+
+        public int getAlgorithm() {
+            return algorithm;
+        }
+
+        public String getPublicKey() {
+            return publicKey;
+        }
+    }
+
+    // Delegation signer
+    public static final class Ds extends RecordData {
+
+        // Constants
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        // Attributes
+        private final int keyTag;
+        private final int algorithm;
+        private final int digestType;
+        private final String digest;
+
+        // Constructor
+        public Ds(int keyTag, int algorithm, int digestType, String digest) {
+            this.keyTag = check(keyTag, UINT16, "DS key tag");
+            this.algorithm = check(algorithm, UINT8, "DS algorithm");
+            this.digestType = check(digestType, UINT8, "DS digest type");
+            this.digest = require(digest, "DS digest");
+        }
+
+        @Override
+        public boolean supports(RecordType type) {
+            return type == DS;
+        }
+
+        @Override
+        public String toContent() {
+            return keyTag + " " + algorithm + " " + digestType + " " + digest;
+        }
+
+        @Override
+        public void write(JsonGenerator generator) {
+            generator.writeObjectPropertyStart("data");
+            generator.writeNumberProperty("key_tag", keyTag);
+            generator.writeNumberProperty("algorithm", algorithm);
+            generator.writeNumberProperty("digest_type", digestType);
+            generator.writeStringProperty("digest", digest);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public int hashCode() {
+            var h = keyTag;
+            h = 31 * h + algorithm;
+            h = 31 * h + digestType;
+            h = 31 * h + digest.hashCode();
+            return h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Ds other)) return false;
+            return keyTag == other.keyTag
+                    && algorithm == other.algorithm
+                    && digestType == other.digestType
+                    && digest.equals(other.digest);
+        }
+
+        // Getters
+        public int getKeyTag() {
+            return keyTag;
+        }
+
+        public int getAlgorithm() {
+            return algorithm;
+        }
+
+        public int getDigestType() {
+            return digestType;
+        }
+
+        public String getDigest() {
+            return digest;
+        }
+    }
+
+    // Service binding, used by HTTPS and SVCB
+    public static final class Svcb extends RecordData {
+
+        // Constants
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        // Attributes
+        private final int priority;
+        private final String target;
+        private final String value;
+
+        // Constructor
+        public Svcb(int priority, String target, String value) {
+            this.priority = check(priority, UINT16, "SVCB priority");
+            this.target = name(require(target, "SVCB target"));
+            this.value = value == null ? "" : value.trim();
+        }
+
+        @Override
+        public boolean supports(RecordType type) {
+            return type == HTTPS || type == SVCB;
+        }
+
+        @Override
+        public String toContent() {
+            return value.isEmpty() ? priority + " " + target : priority + " " + target + " " + value;
+        }
+
+        @Override
+        public void write(JsonGenerator generator) {
+            generator.writeObjectPropertyStart("data");
+            generator.writeNumberProperty("priority", priority);
+            generator.writeStringProperty("target", target);
+            generator.writeStringProperty("value", value);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public int hashCode() {
+            var h = priority;
+            h = 31 * h + target.hashCode();
+            h = 31 * h + value.hashCode();
+            return h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Svcb other)) return false;
+            return priority == other.priority
+                    && target.equals(other.target)
+                    && value.equals(other.value);
+        }
+
+        // Getters
+        public int getPriority() {
+            return priority;
+        }
+
+        public String getTarget() {
+            return target;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    // Location
+    public static final class Loc extends RecordData {
+
+        // Constants
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        // Attributes
+        private final int latitudeDegrees;
+        private final int latitudeMinutes;
+        private final double latitudeSeconds;
+        private final char latitudeDirection;
+        private final int longitudeDegrees;
+        private final int longitudeMinutes;
+        private final double longitudeSeconds;
+        private final char longitudeDirection;
+        private final double altitude;
+        private final double size;
+        private final double horizontalPrecision;
+        private final double verticalPrecision;
+
+        // Constructor
+        public Loc(int latitudeDegrees, int latitudeMinutes, double latitudeSeconds, char latitudeDirection,
+                   int longitudeDegrees, int longitudeMinutes, double longitudeSeconds, char longitudeDirection,
+                   double altitude, double size, double horizontalPrecision, double verticalPrecision) {
+
+            // Check coordinates
+            this.latitudeDegrees = check(latitudeDegrees, 90, "LOC latitude degrees");
+            this.latitudeMinutes = check(latitudeMinutes, 59, "LOC latitude minutes");
+            if (latitudeSeconds < 0 || latitudeSeconds >= 60) throw new IllegalArgumentException("LOC latitude seconds must be between 0 and 59.999");
+            this.latitudeSeconds = latitudeSeconds;
+            this.latitudeDirection = Character.toUpperCase(latitudeDirection);
+            if (this.latitudeDirection != 'N' && this.latitudeDirection != 'S') throw new IllegalArgumentException("LOC latitude direction must be N or S");
+            this.longitudeDegrees = check(longitudeDegrees, 180, "LOC longitude degrees");
+            this.longitudeMinutes = check(longitudeMinutes, 59, "LOC longitude minutes");
+            if (longitudeSeconds < 0 || longitudeSeconds >= 60) throw new IllegalArgumentException("LOC longitude seconds must be between 0 and 59.999");
+            this.longitudeSeconds = longitudeSeconds;
+            this.longitudeDirection = Character.toUpperCase(longitudeDirection);
+            if (this.longitudeDirection != 'E' && this.longitudeDirection != 'W') throw new IllegalArgumentException("LOC longitude direction must be E or W");
+
+            // Check sizes
+            if (altitude < -100000 || altitude > 42849672.95) throw new IllegalArgumentException("LOC altitude is out of range");
+            if (size < 0 || horizontalPrecision < 0 || verticalPrecision < 0) throw new IllegalArgumentException("LOC size and precision cannot be negative");
+            this.altitude = altitude;
+            this.size = size;
+            this.horizontalPrecision = horizontalPrecision;
+            this.verticalPrecision = verticalPrecision;
+        }
+
+        // Parse "d [m [s]] N|S d [m [s]] E|W alt[m] [size[m] [hp[m] [vp[m]]]]"
+        private static Loc parse(List<String> fields) {
+            try {
+                var index = 0;
+
+                // Latitude
+                var latitude = new double[3];
+                var count = 0;
+                while (count < 3 && index < fields.size() && !isDirection(fields.get(index))) latitude[count++] = Double.parseDouble(fields.get(index++));
+                var latitudeDirection = fields.get(index++).charAt(0);
+
+                // Longitude
+                var longitude = new double[3];
+                count = 0;
+                while (count < 3 && index < fields.size() && !isDirection(fields.get(index))) longitude[count++] = Double.parseDouble(fields.get(index++));
+                var longitudeDirection = fields.get(index++).charAt(0);
+
+                // Altitude, size and precision with RFC 1876 defaults
+                var sizes = new double[]{0, 1, 10000, 10};
+                for (var i = 0; i < 4 && index < fields.size(); i++) sizes[i] = meters(fields.get(index++));
+
+                return new Loc((int) latitude[0], (int) latitude[1], latitude[2], latitudeDirection,
+                        (int) longitude[0], (int) longitude[1], longitude[2], longitudeDirection,
+                        sizes[0], sizes[1], sizes[2], sizes[3]);
+            } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("LOC content is invalid: " + String.join(" ", fields), e);
+            }
+        }
+
+        private static boolean isDirection(String field) {
+            return field.length() == 1 && "NSEWnsew".indexOf(field.charAt(0)) >= 0;
+        }
+
+        private static double meters(String field) {
+            return Double.parseDouble(field.endsWith("m") || field.endsWith("M") ? field.substring(0, field.length() - 1) : field);
+        }
+
+        @Override
+        public boolean supports(RecordType type) {
+            return type == LOC;
+        }
+
+        @Override
+        public String toContent() {
+            return latitudeDegrees + " " + latitudeMinutes + " " + decimal(latitudeSeconds) + " " + latitudeDirection + " "
+                    + longitudeDegrees + " " + longitudeMinutes + " " + decimal(longitudeSeconds) + " " + longitudeDirection + " "
+                    + decimal(altitude) + "m " + decimal(size) + "m " + decimal(horizontalPrecision) + "m " + decimal(verticalPrecision) + "m";
+        }
+
+        @Override
+        public void write(JsonGenerator generator) {
+            generator.writeObjectPropertyStart("data");
+            generator.writeNumberProperty("lat_degrees", latitudeDegrees);
+            generator.writeNumberProperty("lat_minutes", latitudeMinutes);
+            generator.writeNumberProperty("lat_seconds", latitudeSeconds);
+            generator.writeStringProperty("lat_direction", String.valueOf(latitudeDirection));
+            generator.writeNumberProperty("long_degrees", longitudeDegrees);
+            generator.writeNumberProperty("long_minutes", longitudeMinutes);
+            generator.writeNumberProperty("long_seconds", longitudeSeconds);
+            generator.writeStringProperty("long_direction", String.valueOf(longitudeDirection));
+            generator.writeNumberProperty("altitude", altitude);
+            generator.writeNumberProperty("size", size);
+            generator.writeNumberProperty("precision_horz", horizontalPrecision);
+            generator.writeNumberProperty("precision_vert", verticalPrecision);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public int hashCode() {
+            var h = latitudeDegrees; // Adding 0.0 turns -0.0 into 0.0, which equals compares as equal
+            h = 31 * h + latitudeMinutes;
+            h = 31 * h + Double.hashCode(latitudeSeconds + 0.0);
+            h = 31 * h + latitudeDirection;
+            h = 31 * h + longitudeDegrees;
+            h = 31 * h + longitudeMinutes;
+            h = 31 * h + Double.hashCode(longitudeSeconds + 0.0);
+            h = 31 * h + longitudeDirection;
+            h = 31 * h + Double.hashCode(altitude + 0.0);
+            h = 31 * h + Double.hashCode(size + 0.0);
+            h = 31 * h + Double.hashCode(horizontalPrecision + 0.0);
+            h = 31 * h + Double.hashCode(verticalPrecision + 0.0);
+            return h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Loc other)) return false;
+            return latitudeDegrees == other.latitudeDegrees
+                    && latitudeMinutes == other.latitudeMinutes
+                    && latitudeSeconds == other.latitudeSeconds
+                    && latitudeDirection == other.latitudeDirection
+                    && longitudeDegrees == other.longitudeDegrees
+                    && longitudeMinutes == other.longitudeMinutes
+                    && longitudeSeconds == other.longitudeSeconds
+                    && longitudeDirection == other.longitudeDirection
+                    && altitude == other.altitude
+                    && size == other.size
+                    && horizontalPrecision == other.horizontalPrecision
+                    && verticalPrecision == other.verticalPrecision;
+        }
+
+        // Getters
+        public int getLatitudeDegrees() {
+            return latitudeDegrees;
+        }
+
+        public int getLatitudeMinutes() {
+            return latitudeMinutes;
+        }
+
+        public double getLatitudeSeconds() {
+            return latitudeSeconds;
+        }
+
+        public char getLatitudeDirection() {
+            return latitudeDirection;
+        }
+
+        public int getLongitudeDegrees() {
+            return longitudeDegrees;
+        }
+
+        public int getLongitudeMinutes() {
+            return longitudeMinutes;
+        }
+
+        public double getLongitudeSeconds() {
+            return longitudeSeconds;
+        }
+
+        public char getLongitudeDirection() {
+            return longitudeDirection;
+        }
+
+        public double getAltitude() {
+            return altitude;
+        }
+
+        public double getSize() {
+            return size;
+        }
+
+        public double getHorizontalPrecision() {
+            return horizontalPrecision;
+        }
+
+        public double getVerticalPrecision() {
+            return verticalPrecision;
+        }
+    }
+
+    // Mail exchange, the API keeps the target in content and priority next to it
+    public static final class Mx extends RecordData {
+
+        // Constants
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        // Attributes
+        private final int priority;
+        private final String target;
+
+        // Constructor
+        public Mx(int priority, String target) {
+            this.priority = check(priority, UINT16, "MX priority");
+            this.target = name(require(target, "MX target"));
+        }
+
+        @Override
+        public boolean supports(RecordType type) {
+            return type == MX;
+        }
+
+        @Override
+        public String toContent() {
+            return priority + " " + target;
+        }
+
+        @Override
+        public void write(JsonGenerator generator) {
+            generator.writeStringProperty("content", target);
+            generator.writeNumberProperty("priority", priority);
+        }
+
+        @Override
+        public int hashCode() {
+            var h = priority;
+            h = 31 * h + target.hashCode();
+            return h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Mx other)) return false;
+            return priority == other.priority
+                    && target.equals(other.target);
+        }
+
+        // Getters
+        public int getPriority() {
+            return priority;
+        }
+
+        public String getTarget() {
+            return target;
+        }
+    }
+
+    // Naming authority pointer
+    public static final class Naptr extends RecordData {
+
+        // Constants
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        // Attributes
+        private final int order;
+        private final int preference;
+        private final String flags;
+        private final String service;
+        private final String regex;
+        private final String replacement;
+
+        // Constructor
+        public Naptr(int order, int preference, String flags, String service, String regex, String replacement) {
+            this.order = check(order, UINT16, "NAPTR order");
+            this.preference = check(preference, UINT16, "NAPTR preference");
+            this.flags = flags == null ? "" : flags;
+            this.service = service == null ? "" : service;
+            this.regex = regex == null ? "" : regex;
+            this.replacement = name(require(replacement, "NAPTR replacement"));
+        }
+
+        @Override
+        public boolean supports(RecordType type) {
+            return type == NAPTR;
+        }
+
+        @Override
+        public String toContent() {
+            return order + " " + preference + " " + quote(flags) + " " + quote(service) + " " + quote(regex) + " " + replacement;
+        }
+
+        @Override
+        public void write(JsonGenerator generator) {
+            generator.writeObjectPropertyStart("data");
+            generator.writeNumberProperty("order", order);
+            generator.writeNumberProperty("preference", preference);
+            generator.writeStringProperty("flags", flags);
+            generator.writeStringProperty("service", service);
+            generator.writeStringProperty("regex", regex);
+            generator.writeStringProperty("replacement", replacement);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public int hashCode() {
+            var h = order;
+            h = 31 * h + preference;
+            h = 31 * h + flags.hashCode();
+            h = 31 * h + service.hashCode();
+            h = 31 * h + regex.hashCode();
+            h = 31 * h + replacement.hashCode();
+            return h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Naptr other)) return false;
+            return order == other.order
+                    && preference == other.preference
+                    && flags.equals(other.flags)
+                    && service.equals(other.service)
+                    && regex.equals(other.regex)
+                    && replacement.equals(other.replacement);
+        }
+
+        // Getters
+        public int getOrder() {
+            return order;
+        }
+
+        public int getPreference() {
+            return preference;
+        }
+
+        public String getFlags() {
+            return flags;
+        }
+
+        public String getService() {
+            return service;
+        }
+
+        public String getRegex() {
+            return regex;
+        }
+
+        public String getReplacement() {
+            return replacement;
+        }
+    }
+
+    // Service locator
+    public static final class Srv extends RecordData {
+
+        // Constants
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        // Attributes
+        private final int priority;
+        private final int weight;
+        private final int port;
+        private final String target;
+
+        // Constructor
+        public Srv(int priority, int weight, int port, String target) {
+            this.priority = check(priority, UINT16, "SRV priority");
+            this.weight = check(weight, UINT16, "SRV weight");
+            this.port = check(port, UINT16, "SRV port");
+            this.target = name(require(target, "SRV target"));
+        }
+
+        @Override
+        public boolean supports(RecordType type) {
+            return type == SRV;
+        }
+
+        @Override
+        public String toContent() {
+            return priority + " " + weight + " " + port + " " + target;
+        }
+
+        @Override
+        public void write(JsonGenerator generator) {
+            generator.writeObjectPropertyStart("data");
+            generator.writeNumberProperty("priority", priority);
+            generator.writeNumberProperty("weight", weight);
+            generator.writeNumberProperty("port", port);
+            generator.writeStringProperty("target", target);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public int hashCode() {
+            var h = priority;
+            h = 31 * h + weight;
+            h = 31 * h + port;
+            h = 31 * h + target.hashCode();
+            return h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Srv other)) return false;
+            return priority == other.priority
+                    && weight == other.weight
+                    && port == other.port
+                    && target.equals(other.target);
+        }
+
+        // Getters
+        public int getPriority() {
+            return priority;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+
+        public int getPort() {
+            return port;
+        }
+
+        public String getTarget() {
+            return target;
+        }
+    }
+
+    // SSH public key fingerprint
+    public static final class Sshfp extends RecordData {
+
+        // Constants
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        // Attributes
+        private final int algorithm;
+        private final int fingerprintType;
+        private final String fingerprint;
+
+        // Constructor
+        public Sshfp(int algorithm, int fingerprintType, String fingerprint) {
+            this.algorithm = check(algorithm, UINT8, "SSHFP algorithm");
+            this.fingerprintType = check(fingerprintType, UINT8, "SSHFP type");
+            this.fingerprint = require(fingerprint, "SSHFP fingerprint");
+        }
+
+        @Override
+        public boolean supports(RecordType type) {
+            return type == SSHFP;
+        }
+
+        @Override
+        public String toContent() {
+            return algorithm + " " + fingerprintType + " " + fingerprint;
+        }
+
+        @Override
+        public void write(JsonGenerator generator) {
+            generator.writeObjectPropertyStart("data");
+            generator.writeNumberProperty("algorithm", algorithm);
+            generator.writeNumberProperty("type", fingerprintType);
+            generator.writeStringProperty("fingerprint", fingerprint);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public int hashCode() {
+            var h = algorithm;
+            h = 31 * h + fingerprintType;
+            h = 31 * h + fingerprint.hashCode();
+            return h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Sshfp other)) return false;
+            return algorithm == other.algorithm
+                    && fingerprintType == other.fingerprintType
+                    && fingerprint.equals(other.fingerprint);
+        }
+
+        // Getters
+        public int getAlgorithm() {
+            return algorithm;
+        }
+
+        public int getFingerprintType() {
+            return fingerprintType;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+    }
+
+    // Certificate association, used by TLSA and SMIMEA
+    public static final class Tlsa extends RecordData {
+
+        // Constants
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        // Attributes
+        private final int usage;
+        private final int selector;
+        private final int matchingType;
+        private final String certificate;
+
+        // Constructor
+        public Tlsa(int usage, int selector, int matchingType, String certificate) {
+            this.usage = check(usage, UINT8, "TLSA usage");
+            this.selector = check(selector, UINT8, "TLSA selector");
+            this.matchingType = check(matchingType, UINT8, "TLSA matching type");
+            this.certificate = require(certificate, "TLSA certificate");
+        }
+
+        @Override
+        public boolean supports(RecordType type) {
+            return type == TLSA || type == SMIMEA;
+        }
+
+        @Override
+        public String toContent() {
+            return usage + " " + selector + " " + matchingType + " " + certificate;
+        }
+
+        @Override
+        public void write(JsonGenerator generator) {
+            generator.writeObjectPropertyStart("data");
+            generator.writeNumberProperty("usage", usage);
+            generator.writeNumberProperty("selector", selector);
+            generator.writeNumberProperty("matching_type", matchingType);
+            generator.writeStringProperty("certificate", certificate);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public int hashCode() {
+            var h = usage;
+            h = 31 * h + selector;
+            h = 31 * h + matchingType;
+            h = 31 * h + certificate.hashCode();
+            return h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Tlsa other)) return false;
+            return usage == other.usage
+                    && selector == other.selector
+                    && matchingType == other.matchingType
+                    && certificate.equals(other.certificate);
+        }
+
+        // Getters
+        public int getUsage() {
+            return usage;
+        }
+
+        public int getSelector() {
+            return selector;
+        }
+
+        public int getMatchingType() {
+            return matchingType;
+        }
+
+        public String getCertificate() {
+            return certificate;
+        }
+    }
+
+    // Uniform resource identifier, the API keeps the priority next to the data
+    public static final class Uri extends RecordData {
+
+        // Constants
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        // Attributes
+        private final int priority;
+        private final int weight;
+        private final String target;
+
+        // Constructor
+        public Uri(int priority, int weight, String target) {
+            this.priority = check(priority, UINT16, "URI priority");
+            this.weight = check(weight, UINT16, "URI weight");
+            this.target = require(target, "URI target");
+        }
+
+        @Override
+        public boolean supports(RecordType type) {
+            return type == URI;
+        }
+
+        @Override
+        public String toContent() {
+            return priority + " " + weight + " " + quote(target);
+        }
+
+        @Override
+        public void write(JsonGenerator generator) {
+            generator.writeNumberProperty("priority", priority);
+            generator.writeObjectPropertyStart("data");
+            generator.writeNumberProperty("weight", weight);
+            generator.writeStringProperty("target", target);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public int hashCode() {
+            var h = priority;
+            h = 31 * h + weight;
+            h = 31 * h + target.hashCode();
+            return h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Uri other)) return false;
+            return priority == other.priority
+                    && weight == other.weight
+                    && target.equals(other.target);
+        }
+
+        // Getters
+        public int getPriority() {
+            return priority;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+
+        public String getTarget() {
+            return target;
+        }
+    }
+}
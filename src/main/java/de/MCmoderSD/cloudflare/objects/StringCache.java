@@ -0,0 +1,84 @@
+package de.MCmoderSD.cloudflare.objects;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+final class StringCache {
+
+    // Constants
+    private static final int SIZE = 1 << 12;
+    private static final int MAX_LENGTH = 255;
+
+    // Lossy cache, colliding values replace each other so memory stays bounded
+    private static final String[] ENTRIES = new String[SIZE];
+
+    // Constructor
+    private StringCache() {
+        // Utility class
+    }
+
+    // Return cached instance of an equal string
+    static String intern(String value) {
+        if (value == null || value.length() > MAX_LENGTH) return value;
+        var index = index(value.hashCode());
+        var cached = ENTRIES[index];
+        if (value.equals(cached)) return cached;
+        ENTRIES[index] = value;
+        return value;
+    }
+
+    // Return cached instance for a parser buffer, allocating only on a miss
+    static String intern(char[] chars, int offset, int length) {
+        if (length > MAX_LENGTH) return new String(chars, offset, length);
+
+        // Same hash as String.hashCode
+        var hash = 0;
+        for (var i = offset; i < offset + length; i++) hash = 31 * hash + chars[i];
+
+        // Look up cached value
+        var index = index(hash);
+        var cached = ENTRIES[index];
+        if (cached != null && matches(cached, chars, offset, length)) return cached;
+        var value = new String(chars, offset, length);
+        ENTRIES[index] = value;
+        return value;
+    }
+
+    // Return cached instance for UTF-8 bytes, allocating only on a miss
+    static String intern(byte[] bytes, int offset, int length) {
+        if (length > MAX_LENGTH) return new String(bytes, offset, length, UTF_8);
+
+        // Same hash as String.hashCode, non-ASCII input is decoded first
+        var hash = 0;
+        for (var i = offset; i < offset + length; i++) {
+            if (bytes[i] < 0) return intern(new String(bytes, offset, length, UTF_8));
+            hash = 31 * hash + bytes[i];
+        }
+
+        // Look up cached value
+        var index = index(hash);
+        var cached = ENTRIES[index];
+        if (cached != null && matches(cached, bytes, offset, length)) return cached;
+        var value = new String(bytes, offset, length, ISO_8859_1);
+        ENTRIES[index] = value;
+        return value;
+    }
+
+    // Spread hash over the table
+    private static int index(int hash) {
+        return (hash ^ (hash >>> 16)) & (SIZE - 1);
+    }
+
+    // Compare string with buffer
+    private static boolean matches(String value, char[] chars, int offset, int length) {
+        if (value.length() != length) return false;
+        for (var i = 0; i < length; i++) if (value.charAt(i) != chars[offset + i]) return false;
+        return true;
+    }
+
+    private static boolean matches(String value, byte[] bytes, int offset, int length) {
+        if (value.length() != length) return false;
+        for (var i = 0; i < length; i++) if (value.charAt(i) != bytes[offset + i]) return false;
+        return true;
+    }
+}
@@ -0,0 +1,99 @@
+package de.MCmoderSD.cloudflare.objects;
+
+import de.MCmoderSD.cloudflare.enums.RecordType;
+
+import java.util.Objects;
+
+@SuppressWarnings("unused")
+public class ZoneFileRecord {
+
+    // Constants
+    public static final int AUTOMATIC_TTL = DnsRecord.AUTOMATIC_TTL;
+
+    // Attributes
+    private final String name;
+    private final RecordType type;
+    private final int ttl;
+    private final String content;
+    private final boolean proxied;
+    private final int line;
+
+    // Constructor
+    public ZoneFileRecord(String name, RecordType type, int ttl, String content, boolean proxied, int line) {
+
+        // Check parameters
+        if (name == null || name.isBlank()) throw new IllegalArgumentException("Name cannot be null or blank");
+        if (type == null) throw new IllegalArgumentException("Type cannot be null");
+        if (ttl < 0) throw new IllegalArgumentException("TTL cannot be negative");
+        if (content == null) throw new IllegalArgumentException("Content cannot be null");
+
+        // Set attributes
+        this.name = name;
+        this.type = type;
+        this.ttl = ttl;
+        this.content = content;
+        this.proxied = proxied;
+        this.line = line;
+    }
+
+    // Convert to builder input, structured types are parsed by the builder
+    public DnsRecord.Builder toBuilder() {
+        return DnsRecord.builder(type)
+                .name(name)
+                .content(content)
+                .proxied(proxied)
+                .ttl(toCloudflareTtl(ttl));
+    }
+
+    // Zone files allow any TTL, Cloudflare only 1 (automatic) or 60 to 86400 seconds, so e.g. 0 or 30 become 60 and 604800 becomes 86400
+    private static int toCloudflareTtl(int ttl) {
+        return ttl == AUTOMATIC_TTL ? AUTOMATIC_TTL : Math.clamp(ttl, DnsRecord.MIN_TTL, DnsRecord.MAX_TTL);
+    }
+
+    // Parse structured data, null for plain content types
+    public RecordData getData() {
+        return RecordData.isStructured(type) ? RecordData.parse(type, content) : null;
+    }
+
+    // Getters
+    public String getName() {
+        return name;
+    }
+
+    public RecordType getType() {
+        return type;
+    }
+
+    public int getTtl() {
+        return ttl;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public boolean isProxied() {
+        return proxied;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, type, ttl, content, proxied);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof ZoneFileRecord other)) return false;
+        return ttl == other.ttl && proxied == other.proxied && type == other.type && name.equals(other.name) && content.equals(other.content);
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + ttl + " IN " + type + " " + content;
+    }
+}
@@ -0,0 +1,59 @@
+package de.MCmoderSD.cloudflare.objects;
+
+import java.util.List;
+
+@SuppressWarnings("unused")
+public class ZonePlan {
+
+    // Attributes
+    private final List<DnsRecord.Builder> creates;
+    private final List<ModifiedRecord> updates;
+    private final List<DnsRecord> deletes;
+    private final int unchanged;
+
+    // Constructor
+    public ZonePlan(List<DnsRecord.Builder> creates, List<ModifiedRecord> updates, List<DnsRecord> deletes, int unchanged) {
+
+        // Check parameters
+        if (creates == null) throw new IllegalArgumentException("Creates cannot be null");
+        if (updates == null) throw new IllegalArgumentException("Updates cannot be null");
+        if (deletes == null) throw new IllegalArgumentException("Deletes cannot be null");
+        if (unchanged < 0) throw new IllegalArgumentException("Unchanged count cannot be negative");
+
+        // Set attributes
+        this.creates = List.copyOf(creates);
+        this.updates = List.copyOf(updates);
+        this.deletes = List.copyOf(deletes);
+        this.unchanged = unchanged;
+    }
+
+    // Getters
+    public List<DnsRecord.Builder> getCreates() {
+        return creates;
+    }
+
+    public List<ModifiedRecord> getUpdates() {
+        return updates;
+    }
+
+    public List<DnsRecord> getDeletes() {
+        return deletes;
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    public int size() {
+        return creates.size() + updates.size() + deletes.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "ZonePlan{creates=" + creates.size() + ", updates=" + updates.size() + ", deletes=" + deletes.size() + ", unchanged=" + unchanged + "}";
+    }
+}
@@ -0,0 +1,218 @@
+package de.MCmoderSD.cloudflare.objects;
+
+import de.MCmoderSD.cloudflare.enums.RecordType;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@SuppressWarnings("unused")
+public class ZoneSnapshot {
+
+    // Format, big-endian: magic, version, capture time, zone ID, record count, then per record
+    // id, name, type, content, flags, ttl, comment, created, modified and, since version 2, structured
+    // data in presentation format. Strings are UTF-8 with an unsigned short length prefix where 0xFFFF
+    // marks null, timestamps are epoch microseconds.
+    private static final int MAGIC = 0x43465A53;
+    public static final short VERSION = 2;
+    private static final int NULL_LENGTH = 0xFFFF;
+    private static final int MAX_STRING_LENGTH = NULL_LENGTH - 1;
+
+    // Record types by name, avoids a lookup over all types per record
+    private static final HashMap<String, RecordType> TYPES = new HashMap<>();
+
+    static {
+        for (var type : RecordType.values()) TYPES.put(type.name(), type);
+    }
+
+    // Attributes
+    private final String zoneId;
+    private final Instant capturedAt;
+    private final List<DnsRecord> records;
+
+    // Constructors
+    public ZoneSnapshot(String zoneId, Collection<? extends DnsRecord> records) {
+        this(zoneId, Instant.now(), copy(records));
+    }
+
+    private ZoneSnapshot(String zoneId, Instant capturedAt, List<DnsRecord> records) {
+
+        // Check parameters
+        if (zoneId == null || zoneId.isBlank()) throw new IllegalArgumentException("Zone ID cannot be null or blank");
+
+        // Set attributes
+        this.zoneId = zoneId;
+        this.capturedAt = capturedAt;
+        this.records = records;
+    }
+
+    // Copy records
+    private static List<DnsRecord> copy(Collection<? extends DnsRecord> records) {
+        if (records == null) throw new IllegalArgumentException("Records cannot be null");
+        return List.copyOf(records);
+    }
+
+    // Write snapshot to file, replacing it atomically so readers never map a partial file
+    public void write(Path path) throws IOException {
+        if (path == null) throw new IllegalArgumentException("Path cannot be null");
+        var directory = path.toAbsolutePath().getParent();
+        var temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (var outputStream = Files.newOutputStream(temporary)) {
+                write(outputStream);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    // Write snapshot to stream, the stream is flushed but not closed
+    public void write(OutputStream outputStream) throws IOException {
+        if (outputStream == null) throw new IllegalArgumentException("Output stream cannot be null");
+        var output = new DataOutputStream(new BufferedOutputStream(outputStream, 1 << 16));
+
+        // Header
+        output.writeInt(MAGIC);
+        output.writeShort(VERSION);
+        output.writeLong(capturedAt.toEpochMilli());
+        writeString(output, zoneId);
+        output.writeInt(records.size());
+
+        // Records
+        for (var record : records) {
+            writeString(output, record.id);
+            writeString(output, record.name);
+            writeString(output, record.type.name());
+            writeString(output, record.content);
+            output.writeByte(record.flags);
+            output.writeInt(record.ttl);
+            writeString(output, record.comment);
+            output.writeLong(record.created);
+            output.writeLong(record.modified);
+            writeString(output, record.data == null ? null : record.data.toContent());
+        }
+
+        output.flush();
+    }
+
+    // Read snapshot from a memory-mapped file
+    public static ZoneSnapshot read(Path path) throws IOException {
+        if (path == null) throw new IllegalArgumentException("Path cannot be null");
+        try (var channel = FileChannel.open(path)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    // Read snapshot from the buffer's current position
+    public static ZoneSnapshot read(ByteBuffer buffer) {
+        if (buffer == null) throw new IllegalArgumentException("Buffer cannot be null");
+        try {
+
+            // Header
+            if (buffer.remaining() < Integer.BYTES || buffer.getInt() != MAGIC) throw new IllegalArgumentException("Data is not a zone snapshot");
+            var version = buffer.getShort();
+            if (version < 1 || version > VERSION) throw new IllegalArgumentException("Unsupported zone snapshot version: " + version);
+            var capturedAt = Instant.ofEpochMilli(buffer.getLong());
+            var scratch = new byte[1024];
+            var zoneId = readString(buffer, scratch, false);
+            var count = buffer.getInt();
+            if (count < 0) throw new IllegalArgumentException("Zone snapshot record count is invalid");
+
+            // Records
+            var records = new ArrayList<DnsRecord>(Math.min(count, buffer.remaining() / 32));
+            for (var i = 0; i < count; i++) {
+                var id = readString(buffer, scratch, false);
+                var name = readString(buffer, scratch, true);
+                var typeName = readString(buffer, scratch, true);
+                var content = readString(buffer, scratch, true);
+                var flags = buffer.get();
+                var ttl = buffer.getInt();
+                var comment = readString(buffer, scratch, true);
+                var created = buffer.getLong();
+                var modified = buffer.getLong();
+                var data = version >= 2 ? readString(buffer, scratch, false) : null;
+
+                // Check required attributes
+                var type = typeName == null ? null : TYPES.get(typeName);
+                if (id == null || name == null || content == null) throw new IllegalArgumentException("Zone snapshot record " + i + " is incomplete");
+                if (type == null) throw new IllegalArgumentException("Unknown record type: " + typeName);
+                records.add(new DnsRecord(id, name, type, content, flags, ttl, comment, created, modified, data == null ? null : RecordData.parse(type, data)));
+            }
+
+            return new ZoneSnapshot(zoneId, capturedAt, Collections.unmodifiableList(records));
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Zone snapshot is truncated", e);
+        }
+    }
+
+    // Write length-prefixed string
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeShort(NULL_LENGTH);
+            return;
+        }
+        var bytes = value.getBytes(UTF_8);
+        if (bytes.length > MAX_STRING_LENGTH) throw new IllegalArgumentException("String exceeds " + MAX_STRING_LENGTH + " bytes");
+        output.writeShort(bytes.length);
+        output.write(bytes);
+    }
+
+    // Read length-prefixed string, shared values come from the string cache
+    private static String readString(ByteBuffer buffer, byte[] scratch, boolean shared) {
+        var length = Short.toUnsignedInt(buffer.getShort());
+        if (length == NULL_LENGTH) return null;
+        if (length > buffer.remaining()) throw new BufferUnderflowException();
+
+        // Decode in place when the buffer is on-heap, copy otherwise
+        byte[] bytes;
+        int offset;
+        if (buffer.hasArray()) {
+            bytes = buffer.array();
+            offset = buffer.arrayOffset() + buffer.position();
+            buffer.position(buffer.position() + length);
+        } else {
+            bytes = length <= scratch.length ? scratch : new byte[length];
+            offset = 0;
+            buffer.get(bytes, 0, length);
+        }
+        return shared ? StringCache.intern(bytes, offset, length) : new String(bytes, offset, length, UTF_8);
+    }
+
+    // Getters
+    public String getZoneId() {
+        return zoneId;
+    }
+
+    public Instant getCapturedAt() {
+        return capturedAt;
+    }
+
+    public List<DnsRecord> getRecords() {
+        return records;
+    }
+
+    public int size() {
+        return records.size();
+    }
+
+    @Override
+    public String toString() {
+        return "ZoneSnapshot{zoneId=" + zoneId + ", capturedAt=" + capturedAt + ", records=" + records.size() + "}";
+    }
+}
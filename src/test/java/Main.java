@@ -37,21 +37,19 @@ void main() {
             .min(Comparator.comparingInt(String::length))
             .orElseThrow();
 
-    var recordExists = records.stream().anyMatch(record -> record.getType().equals(TXT) && record.getName().equals("hello-world." + baseDomain));
+    // Look up the record with server-side filters
+    var existingRecord = client.query()
+            .type(TXT)
+            .name("hello-world." + baseDomain)
+            .first();
 
-    if (recordExists) {
+    if (existingRecord.isPresent()) {
 
         println("\nRecord already exists.");
         println("Deleting record...");
 
-        // Find and delete the record
-        var recordToDelete = records.stream()
-                .filter(record -> record.getType().equals(TXT) && record.getName().equals("hello-world." + baseDomain))
-                .findFirst()
-                .orElseThrow();
-
         // Delete the record
-        var success = client.deleteRecord(recordToDelete);
+        var success = client.deleteRecord(existingRecord.get());
 
         // Output result
         if (success) println("Deleted record 'hello-world." + baseDomain + "' of type TXT.");